@@ -23,6 +23,9 @@
  */
 package net.cabezudo.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -119,6 +122,190 @@ public class Formatter {
     return sb.toString();
   }
 
+  /**
+   * Read the JSON code from the {@code Reader} and write it indented or minified in the {@code Writer}. The code is processed character by character using buffers of fixed
+   * size, so the memory used doesn't depend on the size of the input. A structure is not created and the code is not validated. The strings are copied without changes, with
+   * the same escape sequences, and the whitespaces out of the strings are removed or replaced by the indentation. Many values at the top level, like the
+   * records of a NDJSON file, are written each one in a new line. The {@code Writer} is flushed but not closed.
+   *
+   * @param reader the source of the JSON code.
+   * @param writer the destination for the JSON code.
+   * @param indentation the indentation to use or {@code null} to write the JSON code without whitespaces.
+   * @throws IOException if the source can't be read or the destination can't be written.
+   */
+  public static void reformat(Reader reader, Writer writer, Indentation indentation) throws IOException {
+    new Reformatter(writer, indentation).reformat(reader);
+  }
+
+  private static final class Reformatter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+    private final Indentation indentation;
+    private final char[] output = new char[BUFFER_SIZE];
+    private int count;
+    private int level;
+    private boolean inString;
+    private boolean escaped;
+    // An object or array was opened and the line break waits for the next character to know if it is empty.
+    private boolean opened;
+    // A top level value was written, the next top level value is written in a new line to keep the records of files with many values, like the NDJSON files.
+    private boolean valueEnded;
+    // A top level number or literal is being written.
+    private boolean inLiteral;
+
+    private Reformatter(Writer writer, Indentation indentation) {
+      this.writer = writer;
+      this.indentation = indentation;
+    }
+
+    private void reformat(Reader reader) throws IOException {
+      char[] input = new char[BUFFER_SIZE];
+      int length;
+      while ((length = reader.read(input)) != -1) {
+        for (int i = 0; i < length; i++) {
+          process(input[i]);
+        }
+      }
+      writer.write(output, 0, count);
+      writer.flush();
+    }
+
+    private void process(char c) throws IOException {
+      if (inString) {
+        write(c);
+        if (escaped) {
+          escaped = false;
+        } else if (c == '\\') {
+          escaped = true;
+        } else if (c == '"') {
+          inString = false;
+          valueEnded = level == 0;
+        }
+        return;
+      }
+      if (level == 0 && !startTopLevel(c)) {
+        return;
+      }
+      switch (c) {
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\r':
+          return;
+        case '}':
+        case ']':
+          level--;
+          if (opened) {
+            opened = false;
+            if (indentation != null) {
+              write("  ");
+            }
+          } else {
+            newLine();
+          }
+          write(c);
+          valueEnded = level == 0;
+          return;
+        default:
+          break;
+      }
+      if (opened) {
+        opened = false;
+        newLine();
+      }
+      switch (c) {
+        case '{':
+        case '[':
+          write(c);
+          level++;
+          opened = true;
+          break;
+        case ',':
+          write(c);
+          newLine();
+          break;
+        case ':':
+          write(c);
+          if (indentation != null) {
+            write(' ');
+          }
+          break;
+        case '"':
+          write(c);
+          inString = true;
+          break;
+        default:
+          write(c);
+          break;
+      }
+    }
+
+    // Process a character out of the values at the top level. Return false if the character is a whitespace, which is removed.
+    private boolean startTopLevel(char c) throws IOException {
+      boolean literal;
+      switch (c) {
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\r':
+          if (inLiteral) {
+            inLiteral = false;
+            valueEnded = true;
+          }
+          return false;
+        case '{':
+        case '[':
+        case '}':
+        case ']':
+        case '"':
+        case ',':
+        case ':':
+          literal = false;
+          break;
+        default:
+          literal = true;
+          break;
+      }
+      if (valueEnded || (inLiteral && !literal)) {
+        valueEnded = false;
+        write('\n');
+      }
+      inLiteral = literal;
+      return true;
+    }
+
+    private void newLine() throws IOException {
+      if (indentation != null) {
+        write('\n');
+        write(indentation.get(Math.max(level, 0)));
+      }
+    }
+
+    private void write(String string) throws IOException {
+      int length = string.length();
+      if (count + length > output.length) {
+        writer.write(output, 0, count);
+        count = 0;
+        if (length > output.length) {
+          writer.write(string);
+          return;
+        }
+      }
+      string.getChars(0, length, output, count);
+      count += length;
+    }
+
+    private void write(char c) throws IOException {
+      if (count == output.length) {
+        writer.write(output, 0, count);
+        count = 0;
+      }
+      output[count++] = c;
+    }
+  }
+
   private Formatter() {
   }
 }
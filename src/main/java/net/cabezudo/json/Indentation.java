@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import net.cabezudo.json.values.JSONNull;
+
+/**
+ * An {@link net.cabezudo.json.Indentation} writes indented JSON code using a fixed number of spaces for every level.
+ *
+ * <p>
+ * The strings used to indent every level are created once and kept, so writing a big structure doesn't create a new string for every line. The objects and arrays write every
+ * property or element in a new line, one level deeper than the object or array. The empty objects and arrays are written in the same line.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public final class Indentation {
+
+  /**
+   * The indentation used by default, two spaces for every level.
+   */
+  public static final Indentation DEFAULT = new Indentation(2);
+
+  private static final int INITIAL_LEVELS = 16;
+
+  private final String unit;
+  // Replaced with a bigger copy when a deeper level is used.
+  private volatile String[] indents;
+
+  /**
+   * Create an {@link net.cabezudo.json.Indentation} that uses the number of spaces passed for every level.
+   *
+   * @param width the number of spaces for every level.
+   */
+  public Indentation(int width) {
+    if (width < 0) {
+      throw new IllegalArgumentException("Illegal indentation width: " + width);
+    }
+    StringBuilder sb = new StringBuilder(width);
+    for (int i = 0; i < width; i++) {
+      sb.append(' ');
+    }
+    this.unit = sb.toString();
+    this.indents = createIndents(new String[0], INITIAL_LEVELS);
+  }
+
+  /**
+   * Return the number of spaces used for every level.
+   *
+   * @return the number of spaces used for every level.
+   */
+  public int getWidth() {
+    return unit.length();
+  }
+
+  /**
+   * Return the string used to indent the level passed.
+   *
+   * @param level the level.
+   * @return the string with the spaces for the level.
+   */
+  public String get(int level) {
+    String[] cached = indents;
+    if (level < cached.length) {
+      return cached[level];
+    }
+    cached = createIndents(cached, Math.max(level + 1, cached.length * 2));
+    indents = cached;
+    return cached[level];
+  }
+
+  /**
+   * Write the pairs passed as an indented object.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param pairs the properties of the object.
+   * @param level the level of the object.
+   * @throws IOException if the destination can't be written.
+   */
+  public void writeObject(Appendable appendable, Iterable<JSONPair> pairs, int level) throws IOException {
+    writeContainer(appendable, pairs, level, '{', '}');
+  }
+
+  /**
+   * Write the values passed as an indented array.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param values the elements of the array.
+   * @param level the level of the array.
+   * @throws IOException if the destination can't be written.
+   */
+  public void writeArray(Appendable appendable, Iterable<? extends JSONable> values, int level) throws IOException {
+    writeContainer(appendable, values, level, '[', ']');
+  }
+
+  /**
+   * Write the indented JSON code for the element passed in the {@code StringBuilder} passed.
+   *
+   * @param sb the destination for the JSON code.
+   * @param element the element to write.
+   * @param level the level of the element.
+   */
+  public void format(StringBuilder sb, JSONable element, int level) {
+    try {
+      element.toFormatedJSON(sb, this, level);
+    } catch (IOException e) {
+      // A StringBuilder never throws an IOException.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeContainer(Appendable appendable, Iterable<? extends JSONable> elements, int level, char open, char close) throws IOException {
+    appendable.append(open);
+    boolean first = true;
+    String indent = get(level + 1);
+    for (JSONable element : elements) {
+      appendable.append(first ? "\n" : ",\n").append(indent);
+      if (element == null) {
+        appendable.append(JSONNull.NULL);
+      } else {
+        element.toFormatedJSON(appendable, this, level + 1);
+      }
+      first = false;
+    }
+    if (first) {
+      appendable.append("  ");
+    } else {
+      appendable.append('\n').append(get(level));
+    }
+    appendable.append(close);
+  }
+
+  private String[] createIndents(String[] cached, int length) {
+    String[] created = new String[length];
+    System.arraycopy(cached, 0, created, 0, cached.length);
+    for (int i = cached.length; i < length; i++) {
+      created[i] = i == 0 ? "" : created[i - 1] + unit;
+    }
+    return created;
+  }
+}
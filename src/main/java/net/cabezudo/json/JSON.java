@@ -106,7 +106,7 @@ public class JSON {
     }
   }
 
-  private static String getGetterName(Field field, String fieldName) {
+  static String getGetterName(Field field, String fieldName) {
     Class<?> fieldType = field.getType();
     String getterPrefix;
 
@@ -119,7 +119,7 @@ public class JSON {
     return getterPrefix + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
   }
 
-  private static List<Field> getInheritedFields(Class<?> clazz) {
+  static List<Field> getInheritedFields(Class<?> clazz) {
     List<Field> fields = new ArrayList<>();
     for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
       fields.addAll(Arrays.asList(c.getDeclaredFields()));
@@ -254,7 +254,7 @@ public class JSON {
    */
   public static JSONValue toJSONTree(Object object) {
     if (object == null) {
-      return new JSONNull();
+      return JSONNull.get();
     }
     if (object instanceof JSONValue) {
       return (JSONValue) object;
@@ -341,7 +341,10 @@ public class JSON {
             continue;
           }
         }
-        jsonValue.setReferenceFieldName(property.field());
+        // The reference field name is only used by the objects and arrays, and the leaf values can be shared instances.
+        if ((jsonValue.isObject() || jsonValue.isArray()) && !JSONElement.DEFAULT_REFERENCE_FIELD_NAME.equals(property.field())) {
+          jsonValue.setReferenceFieldName(property.field());
+        }
         JSONPair jsonPair = new JSONPair(fieldName, jsonValue);
         jsonObject.add(jsonPair);
       }
@@ -354,8 +357,21 @@ public class JSON {
     return jsonObject;
   }
 
+  /**
+   * Write the JSON code for a POJO directly in the {@code Appendable} passed. The code written is the same that {@code toJSONTree(object).toJSON()} returns, but the objects,
+   * arrays and properties of the JSON structure are not created. The fields annotated with {@link net.cabezudo.json.annotations.JSONProperty} are read using the getters and
+   * written using the name, {@code dontShowIfNull}, {@code dontShowIfZero} and {@code dontShowIfEmpty} elements of the annotation.
+   *
+   * @param object the object to write.
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  public static void write(Object object, Appendable appendable) throws IOException {
+    ObjectWriter.write(object, appendable);
+  }
+
   public static String getIndent(int size) {
-    return "  ".repeat(size);
+    return Indentation.DEFAULT.get(size);
   }
 
   private JSON() {
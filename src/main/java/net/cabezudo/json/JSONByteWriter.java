@@ -0,0 +1,342 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link net.cabezudo.json.JSONByteWriter} writes JSON elements directly as UTF-8 bytes in a buffer that can be reused.
+ *
+ * <p>
+ * The elements write their JSON code in the writer using {@link net.cabezudo.json.JSONable#toJSON(java.lang.Appendable)} and the characters are encoded while they are written,
+ * so a {@code String} with the whole JSON code is never created. The ASCII characters are written using only one comparison. The bytes for the keys of the properties, with the
+ * quotes and the colon, are encoded once and kept by the writer, so the keys repeated in many objects are copied instead of encoded again.
+ *
+ * <p>
+ * Use {@link #reset()} to write a new JSON code using the same buffer and key cache. A {@link net.cabezudo.json.JSONByteWriter} is not thread safe.
+ *
+ * <p>
+ * A writer created to cache the containers asks to every {@link net.cabezudo.json.values.JSONObject} and {@link net.cabezudo.json.values.JSONArray} written to keep the bytes of
+ * its JSON code. The bytes kept are copied the next time the object or array is written and they are removed when the object, the array or any child changes, so a structure
+ * written many times with few changes only encodes the parts changed. The objects and arrays with a {@link net.cabezudo.json.values.ConcurrentJSONObject} or a
+ * {@link net.cabezudo.json.values.ConcurrentJSONArray} inside don't keep their bytes. The persistent objects and arrays keep a copy of the concurrent values added to them,
+ * so they never have a value that can change. Use it only for structures written many times, the bytes kept use memory.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONByteWriter implements Appendable {
+
+  private static final int DEFAULT_CAPACITY = 1024;
+  private static final int MAX_CACHED_KEYS = 1024;
+  private static final int MAX_CACHED_KEY_LENGTH = 64;
+  private static final byte REPLACEMENT = '?';
+  private static final int MAX_LONG_LENGTH = 20;
+  private static final byte[] MIN_LONG_BYTES = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+  private final Map<String, byte[]> keys = new HashMap<>();
+  private final boolean cachingContainers;
+  private byte[] buffer;
+  private int count;
+  // The high surrogate of a pair written in a call and waiting for the low surrogate written in the next one.
+  private char highSurrogate;
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONByteWriter} with a buffer of the default size.
+   */
+  public JSONByteWriter() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONByteWriter} with a buffer of the size given. The buffer grows when it is needed.
+   *
+   * @param initialCapacity the initial size of the buffer.
+   */
+  public JSONByteWriter(int initialCapacity) {
+    this(initialCapacity, false);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONByteWriter} with a buffer of the size given that can ask to the objects and arrays written to keep the bytes of their JSON code.
+   *
+   * @param initialCapacity the initial size of the buffer.
+   * @param cachingContainers {@code true} to keep the bytes of the objects and arrays written.
+   */
+  public JSONByteWriter(int initialCapacity, boolean cachingContainers) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    }
+    buffer = new byte[initialCapacity];
+    this.cachingContainers = cachingContainers;
+  }
+
+  /**
+   * Return if {@code this} writer asks to the objects and arrays written to keep the bytes of their JSON code.
+   *
+   * @return {@code true} if the objects and arrays keep the bytes of their JSON code.
+   */
+  public boolean isCachingContainers() {
+    return cachingContainers;
+  }
+
+  /**
+   * Return the UTF-8 bytes for the JSON code of the element passed.
+   *
+   * @param element the element to write.
+   * @return a new array with the bytes.
+   */
+  public static byte[] toBytes(JSONable element) {
+    return new JSONByteWriter().write(element).toByteArray();
+  }
+
+  /**
+   * Write the JSON code for the element passed at the end of the buffer.
+   *
+   * @param element the element to write.
+   * @return {@code this} writer.
+   */
+  public JSONByteWriter write(JSONable element) {
+    try {
+      element.toJSON(this);
+    } catch (IOException e) {
+      // The writer never throws an IOException.
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
+  /**
+   * Write the key of a property with the quotes, the colon and the space after it. The bytes for the key are taken from the cache if the key was written before.
+   *
+   * @param key the key to write.
+   */
+  void writeKey(String key) {
+    byte[] bytes = keys.get(key);
+    if (bytes == null) {
+      bytes = ("\"" + JSONEscaper.escape(key) + "\": ").getBytes(StandardCharsets.UTF_8);
+      if (key.length() <= MAX_CACHED_KEY_LENGTH && keys.size() < MAX_CACHED_KEYS) {
+        keys.put(key, bytes);
+      }
+    }
+    writeRaw(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Write bytes already encoded in UTF-8 at the end of the buffer without changes.
+   *
+   * @param bytes the array with the bytes.
+   * @param offset the position of the first byte to write.
+   * @param length the number of bytes to write.
+   * @return {@code this} writer.
+   */
+  public JSONByteWriter writeRaw(byte[] bytes, int offset, int length) {
+    flushSurrogate();
+    ensureCapacity(count + length);
+    System.arraycopy(bytes, offset, buffer, count, length);
+    count += length;
+    return this;
+  }
+
+  /**
+   * Write the decimal digits of the number passed at the end of the buffer. The digits are written directly in the buffer without create a {@code String}.
+   *
+   * @param value the number to write.
+   * @return {@code this} writer.
+   */
+  public JSONByteWriter writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      return writeRaw(MIN_LONG_BYTES, 0, MIN_LONG_BYTES.length);
+    }
+    flushSurrogate();
+    ensureCapacity(count + MAX_LONG_LENGTH);
+    long v = value;
+    if (v < 0) {
+      buffer[count++] = '-';
+      v = -v;
+    }
+    int length = 1;
+    for (long rest = v / 10; rest != 0; rest /= 10) {
+      length++;
+    }
+    int position = count + length;
+    count = position;
+    do {
+      buffer[--position] = (byte) ('0' + (int) (v % 10));
+      v /= 10;
+    } while (v != 0);
+    return this;
+  }
+
+  @Override
+  public JSONByteWriter append(CharSequence charSequence) {
+    CharSequence chars = charSequence == null ? "null" : charSequence;
+    return append(chars, 0, chars.length());
+  }
+
+  @Override
+  public JSONByteWriter append(CharSequence charSequence, int start, int end) {
+    CharSequence chars = charSequence == null ? "null" : charSequence;
+    ensureCapacity(count + end - start);
+    byte[] bytes = buffer;
+    int position = count;
+    int i = start;
+    if (highSurrogate == 0) {
+      // ASCII fast path.
+      while (i < end) {
+        char c = chars.charAt(i);
+        if (c >= 0x80) {
+          break;
+        }
+        bytes[position++] = (byte) c;
+        i++;
+      }
+    }
+    count = position;
+    for (; i < end; i++) {
+      append(chars.charAt(i));
+    }
+    return this;
+  }
+
+  @Override
+  public JSONByteWriter append(char c) {
+    if (highSurrogate != 0) {
+      char high = highSurrogate;
+      highSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint(high, c);
+        ensureCapacity(count + 4);
+        buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+        return this;
+      }
+      writeByte(REPLACEMENT);
+    }
+    if (c < 0x80) {
+      writeByte((byte) c);
+    } else if (c < 0x800) {
+      ensureCapacity(count + 2);
+      buffer[count++] = (byte) (0xC0 | (c >> 6));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      highSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      writeByte(REPLACEMENT);
+    } else {
+      ensureCapacity(count + 3);
+      buffer[count++] = (byte) (0xE0 | (c >> 12));
+      buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    }
+    return this;
+  }
+
+  /**
+   * Return the number of bytes written.
+   *
+   * @return the number of bytes written.
+   */
+  public int size() {
+    flushSurrogate();
+    return count;
+  }
+
+  /**
+   * Remove the bytes written so the buffer and the cache of keys can be used for a new JSON code.
+   */
+  public void reset() {
+    count = 0;
+    highSurrogate = 0;
+  }
+
+  /**
+   * Return a copy of the bytes written.
+   *
+   * @return a new array with the bytes written.
+   */
+  public byte[] toByteArray() {
+    flushSurrogate();
+    return Arrays.copyOf(buffer, count);
+  }
+
+  /**
+   * Return a copy of the bytes written from the position passed.
+   *
+   * @param from the position of the first byte to copy.
+   * @return a new array with the bytes written from the position passed.
+   */
+  public byte[] toByteArray(int from) {
+    flushSurrogate();
+    return Arrays.copyOfRange(buffer, from, count);
+  }
+
+  /**
+   * Return a {@code ByteBuffer} that wraps the bytes written without copy them. The buffer is valid until the next change in the writer.
+   *
+   * @return a {@code ByteBuffer} ready to be read.
+   */
+  public ByteBuffer toByteBuffer() {
+    flushSurrogate();
+    return ByteBuffer.wrap(buffer, 0, count);
+  }
+
+  /**
+   * Write the bytes written in the {@code OutputStream} passed.
+   *
+   * @param outputStream the destination for the bytes.
+   * @throws IOException if the stream can't be written.
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    flushSurrogate();
+    outputStream.write(buffer, 0, count);
+  }
+
+  private void flushSurrogate() {
+    if (highSurrogate != 0) {
+      highSurrogate = 0;
+      writeByte(REPLACEMENT);
+    }
+  }
+
+  private void writeByte(byte b) {
+    ensureCapacity(count + 1);
+    buffer[count++] = b;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+    }
+  }
+}
@@ -36,15 +36,24 @@ import net.cabezudo.json.exceptions.InvalidOperationException;
  */
 public abstract class JSONElement implements JSONable {
 
-  private String referenceFieldName = "id";
-  private final Position position;
+  /**
+   * The name of the field used as reference if other name is not defined.
+   */
+  public static final String DEFAULT_REFERENCE_FIELD_NAME = "id";
+
+  // The position of the element, or a Metadata object if the reference field name is not the default one. Most of the elements use the default name, so they only need one field.
+  private Object metadata;
 
   public Position getPosition() {
-    return position;
+    Object m = metadata;
+    if (m instanceof Metadata) {
+      return ((Metadata) m).position;
+    }
+    return (Position) m;
   }
 
   public JSONElement(Position position) {
-    this.position = position;
+    this.metadata = position;
   }
 
   /**
@@ -53,16 +62,38 @@ public abstract class JSONElement implements JSONable {
    * @return a {@code String} with the name of the field whose value is used as a reference.
    */
   public String getReferenceFieldName() {
-    return referenceFieldName;
+    Object m = metadata;
+    if (m instanceof Metadata) {
+      return ((Metadata) m).referenceFieldName;
+    }
+    return DEFAULT_REFERENCE_FIELD_NAME;
   }
 
   /**
    * Defines the name of the field used to reference the object.
    *
    * @param referenceFieldName a {@code String} with the name of the field to be used to refer to the object.
+   * @throws InvalidOperationException if {@code this} element is a shared instance.
    */
   public void setReferenceFieldName(String referenceFieldName) {
-    this.referenceFieldName = referenceFieldName;
+    if (isShared()) {
+      throw new InvalidOperationException("The element " + toJSON() + " is a shared instance and can't be changed.");
+    }
+    Position position = getPosition();
+    if (DEFAULT_REFERENCE_FIELD_NAME.equals(referenceFieldName)) {
+      metadata = position;
+    } else {
+      metadata = new Metadata(position, referenceFieldName);
+    }
+  }
+
+  /**
+   * Returns whether {@code this} element is an instance shared by the library, like the small numbers or the read only objects, so it can't be changed.
+   *
+   * @return {@code true} if {@code this} element is a shared instance, {@code false} otherwise.
+   */
+  protected boolean isShared() {
+    return false;
   }
 
   /**
@@ -192,4 +223,15 @@ public abstract class JSONElement implements JSONable {
     toFormatedString(sb, 0, false);
     return sb.toString();
   }
+
+  private static final class Metadata {
+
+    private final Position position;
+    private final String referenceFieldName;
+
+    private Metadata(Position position, String referenceFieldName) {
+      this.position = position;
+      this.referenceFieldName = referenceFieldName;
+    }
+  }
 }
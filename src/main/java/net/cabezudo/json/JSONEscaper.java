@@ -0,0 +1,208 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Escape the strings written in the JSON code.
+ *
+ * <p>
+ * The keys are saved without escape sequences, so all the quotes, backslashes and control characters in them are escaped. The values of the strings are saved with the escape
+ * sequences they have in the source, so a valid escape sequence in a value is written without change and only the backslashes that don't start a valid sequence are escaped. A
+ * table with an entry for each ASCII character is used to find the characters to escape and the runs of characters that don't need escape are copied together.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public final class JSONEscaper {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  // The character used after the backslash for each ASCII character, 'u' for a unicode escape sequence and 0 if the character is written without change.
+  private static final char[] ESCAPES = new char[128];
+
+  static {
+    for (int i = 0; i < 0x20; i++) {
+      ESCAPES[i] = 'u';
+    }
+    ESCAPES['"'] = '"';
+    ESCAPES['\\'] = '\\';
+    ESCAPES['\b'] = 'b';
+    ESCAPES['\f'] = 'f';
+    ESCAPES['\n'] = 'n';
+    ESCAPES['\r'] = 'r';
+    ESCAPES['\t'] = 't';
+  }
+
+  private JSONEscaper() {
+    // Nothing to do here. Utility class.
+  }
+
+  /**
+   * Return {@code true} if the string passed has any character to escape.
+   *
+   * @param value the string to check.
+   * @param raw {@code true} if the string keeps the escape sequences of the source.
+   * @return {@code true} if the string has any character to escape, {@code false} otherwise.
+   */
+  public static boolean needsEscape(CharSequence value, boolean raw) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 128 && ESCAPES[c] != 0) {
+        int sequenceLength = raw && c == '\\' ? escapeSequenceLength(value, i) : 0;
+        if (sequenceLength == 0) {
+          return true;
+        }
+        i += sequenceLength - 1;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Return the string passed with all the quotes, backslashes and control characters escaped. Used for the strings without escape sequences, like the keys of the properties.
+   *
+   * @param value the string to escape.
+   * @return the escaped string, the same object if there isn't anything to escape.
+   */
+  public static String escape(String value) {
+    return escape(value, false);
+  }
+
+  /**
+   * Return the string passed with the characters escaped keeping the valid escape sequences. Used for the values of the strings, which are saved as they are in the source.
+   *
+   * @param value the string to escape.
+   * @return the escaped string, the same object if there isn't anything to escape.
+   */
+  public static String escapeRaw(String value) {
+    return escape(value, true);
+  }
+
+  /**
+   * Write the string passed with all the quotes, backslashes and control characters escaped in the {@code Appendable} passed.
+   *
+   * @param value the string to escape.
+   * @param appendable the destination for the escaped string.
+   * @throws IOException if the destination can't be written.
+   */
+  public static void escape(CharSequence value, Appendable appendable) throws IOException {
+    escape(value, appendable, false);
+  }
+
+  /**
+   * Write the string passed with the characters escaped keeping the valid escape sequences in the {@code Appendable} passed.
+   *
+   * @param value the string to escape.
+   * @param appendable the destination for the escaped string.
+   * @throws IOException if the destination can't be written.
+   */
+  public static void escapeRaw(CharSequence value, Appendable appendable) throws IOException {
+    escape(value, appendable, true);
+  }
+
+  private static String escape(String value, boolean raw) {
+    if (!needsEscape(value, raw)) {
+      return value;
+    }
+    StringBuilder sb = new StringBuilder(value.length() + 16);
+    try {
+      escape(value, sb, raw);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
+  private static void escape(CharSequence value, Appendable appendable, boolean raw) throws IOException {
+    int length = value.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 128) {
+        continue;
+      }
+      char escape = ESCAPES[c];
+      if (escape == 0) {
+        continue;
+      }
+      if (raw && c == '\\') {
+        int sequenceLength = escapeSequenceLength(value, i);
+        if (sequenceLength != 0) {
+          i += sequenceLength - 1;
+          continue;
+        }
+      }
+      if (start < i) {
+        appendable.append(value, start, i);
+      }
+      appendable.append('\\').append(escape);
+      if (escape == 'u') {
+        appendable.append('0').append('0').append(HEX[c >> 4]).append(HEX[c & 0xF]);
+      }
+      start = i + 1;
+    }
+    if (start == 0) {
+      appendable.append(value);
+    } else if (start < length) {
+      appendable.append(value, start, length);
+    }
+  }
+
+  // The length of the valid escape sequence that starts in the position passed or 0 if there is not a valid sequence.
+  private static int escapeSequenceLength(CharSequence value, int index) {
+    if (index + 1 >= value.length()) {
+      return 0;
+    }
+    switch (value.charAt(index + 1)) {
+      case '"':
+      case '\\':
+      case '/':
+      case 'b':
+      case 'f':
+      case 'n':
+      case 'r':
+      case 't':
+        return 2;
+      case 'u':
+        if (index + 6 > value.length()) {
+          return 0;
+        }
+        for (int i = index + 2; i < index + 6; i++) {
+          if (!isHexDigit(value.charAt(i))) {
+            return 0;
+          }
+        }
+        return 6;
+      default:
+        return 0;
+    }
+  }
+
+  private static boolean isHexDigit(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+}
@@ -46,6 +46,9 @@ import net.cabezudo.json.values.JSONValue;
  */
 public class JSONFactory {
 
+  // The numbers with up to 18 digits always fit in a long.
+  private static final int MAX_LONG_DIGITS = 18;
+
   /**
    * Create a JSON structure representation of the parameter object. For the conversion the method use any of the next rules.
    * <ul>
@@ -83,7 +86,7 @@ public class JSONFactory {
    */
   public static JSONValue get(Object object) {
     if (object == null) {
-      return new JSONNull();
+      return JSONNull.get();
     }
     if (object instanceof JSONValue) {
       return (JSONValue) object;
@@ -96,19 +99,19 @@ public class JSONFactory {
     switch (fieldTypeName) {
       case "byte":
       case "java.lang.Byte":
-        jsonValue = new JSONNumber((Byte) object);
+        jsonValue = JSONNumber.get((Byte) object);
         break;
       case "short":
       case "java.lang.Short":
-        jsonValue = new JSONNumber((Short) object);
+        jsonValue = JSONNumber.get((Short) object);
         break;
       case "int":
       case "java.lang.Integer":
-        jsonValue = new JSONNumber((Integer) object);
+        jsonValue = JSONNumber.get((Integer) object);
         break;
       case "long":
       case "java.lang.Long":
-        jsonValue = new JSONNumber((Long) object);
+        jsonValue = JSONNumber.get((Long) object);
         break;
       case "float":
       case "java.lang.Float":
@@ -127,7 +130,7 @@ public class JSONFactory {
         jsonValue = new JSONString((Character) object);
         break;
       case "java.lang.String":
-        jsonValue = new JSONString((String) object);
+        jsonValue = JSONString.get((String) object);
         break;
       case "java.util.Date":
         Date dateValue = (Date) object;
@@ -155,8 +158,8 @@ public class JSONFactory {
       case "[B":
         JSONArray jsonByteArray = new JSONArray();
         byte[] byteArray = (byte[]) object;
-        for (Byte b : byteArray) {
-          jsonByteArray.add(new JSONNumber(b));
+        for (byte b : byteArray) {
+          jsonByteArray.addNumber(b);
         }
         jsonValue = jsonByteArray;
         break;
@@ -164,7 +167,7 @@ public class JSONFactory {
         JSONArray jsonIntArray = new JSONArray();
         int[] intArray = (int[]) object;
         for (int i : intArray) {
-          jsonIntArray.add(new JSONNumber(i));
+          jsonIntArray.addNumber(i);
         }
         jsonValue = jsonIntArray;
         break;
@@ -201,8 +204,12 @@ public class JSONFactory {
         jsonValue = createJSONString(token);
         break;
       case NUMBER:
-        BigDecimal bigDecimal = new BigDecimal(token.getValue());
-        jsonValue = new JSONNumber(bigDecimal);
+        if (isLong(token.getValue())) {
+          jsonValue = JSONNumber.get(Long.parseLong(token.getValue()));
+        } else {
+          BigDecimal bigDecimal = new BigDecimal(token.getValue());
+          jsonValue = new JSONNumber(bigDecimal);
+        }
         break;
       case LEFT_BRACE:
         jsonValue = getJSONObject(tokens, token.getPosition());
@@ -216,7 +223,7 @@ public class JSONFactory {
         jsonValue = JSONBoolean.get(booleanValue);
         break;
       case NULL:
-        jsonValue = new JSONNull();
+        jsonValue = JSONNull.get();
         break;
       default:
         throw new UnexpectedElementException("value", token.getValue(), token.getPosition());
@@ -241,9 +248,13 @@ public class JSONFactory {
         break;
       }
 
-      JSONValue jsonValue = get(token, tokens);
+      if (token.getType() == TokenType.NUMBER && isLong(token.getValue())) {
+        jsonArray.addNumber(Long.parseLong(token.getValue()));
+      } else {
+        JSONValue jsonValue = get(token, tokens);
 
-      jsonArray.add(jsonValue);
+        jsonArray.add(jsonValue);
+      }
 
       try {
         token = tokens.consume();
@@ -265,6 +276,21 @@ public class JSONFactory {
     return jsonArray;
   }
 
+  private static boolean isLong(String number) {
+    int start = number.startsWith("-") ? 1 : 0;
+    int length = number.length() - start;
+    if (length == 0 || length > MAX_LONG_DIGITS) {
+      return false;
+    }
+    for (int i = start; i < number.length(); i++) {
+      char c = number.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   JSONObject getJSONObject(Tokens tokens, Position position) throws JSONParseException {
     JSONObject jsonObject = new JSONObject(position);
     Token token;
@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
@@ -242,11 +243,33 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
   public String toJSON() {
     JSONValue jsonValue;
     if (value == null) {
-      jsonValue = new JSONNull();
+      jsonValue = JSONNull.get();
     } else {
       jsonValue = value;
     }
-    return "\"" + key + "\": " + jsonValue.toJSON();
+    return "\"" + JSONEscaper.escape(key) + "\": " + jsonValue.toJSON();
+  }
+
+  /**
+   * Write the JSON code for {@code this} pair in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    if (appendable instanceof JSONByteWriter) {
+      ((JSONByteWriter) appendable).writeKey(key);
+    } else {
+      appendable.append('"');
+      JSONEscaper.escape(key, appendable);
+      appendable.append("\": ");
+    }
+    if (value == null) {
+      appendable.append(JSONNull.NULL);
+    } else {
+      value.toJSON(appendable);
+    }
   }
 
   /**
@@ -330,6 +353,44 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
     return "(" + key + ", " + value + ")";
   }
 
+  /**
+   * Write the indented JSON code for {@code this} pair in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} pair in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    appendable.append('"');
+    JSONEscaper.escape(key, appendable);
+    appendable.append("\": ");
+    if (value == null) {
+      appendable.append(JSONNull.NULL);
+    } else {
+      value.toFormatedJSON(appendable, indentation, level);
+    }
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} pair in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    appendable.append('"');
+    JSONEscaper.escape(key, appendable);
+    appendable.append("\":");
+    if (value == null) {
+      appendable.append(JSONNull.NULL);
+    } else {
+      value.toCanonicalJSON(appendable);
+    }
+  }
+
   /**
    * Convert the value of this {@link net.cabezudo.json.JSONPair} to an native array of strings and return it. If the value can't be converted the method throw a runtime exception
    * {@link net.cabezudo.json.exceptions.JSONConvertionException}. The rules for conversion depends of the type of value.
@@ -342,7 +403,6 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
 
   @Override
   public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
-    sb.append("\"").append(key).append("\": ");
-    value.toFormatedString(sb, indent, false);
+    Indentation.DEFAULT.format(sb, this, indent);
   }
 }
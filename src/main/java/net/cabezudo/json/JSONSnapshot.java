@@ -0,0 +1,95 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import net.cabezudo.json.values.JSONObject;
+
+/**
+ * A {@link net.cabezudo.json.JSONSnapshot} publish a read only version of a {@link net.cabezudo.json.values.JSONObject} to be shared between many threads.
+ *
+ * <p>
+ * The readers take the current version using {@link #get()} and read it without locks because the object can't be changed. A writer creates a private copy, changes the copy and
+ * replaces the shared version in one step, so the readers see the old version or the new version but never a partial change.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONSnapshot {
+
+  private final AtomicReference<JSONObject> reference;
+
+  /**
+   * Create a new {@link net.cabezudo.json.JSONSnapshot} using a read only copy of the object passed by parameter.
+   *
+   * @param jsonObject the initial version of the object.
+   */
+  public JSONSnapshot(JSONObject jsonObject) {
+    if (jsonObject == null) {
+      throw new IllegalArgumentException("The parameter jsonObject is null.");
+    }
+    this.reference = new AtomicReference<>(jsonObject.freeze());
+  }
+
+  /**
+   * Return the current version of the object. The object returned is read only and it is never changed, so it can be used while other thread publish a new version.
+   *
+   * @return the current read only {@link net.cabezudo.json.values.JSONObject}.
+   */
+  public JSONObject get() {
+    return reference.get();
+  }
+
+  /**
+   * Replace the current version of the object using a read only copy of the object passed by parameter.
+   *
+   * @param jsonObject the new version of the object.
+   */
+  public void set(JSONObject jsonObject) {
+    if (jsonObject == null) {
+      throw new IllegalArgumentException("The parameter jsonObject is null.");
+    }
+    reference.set(jsonObject.freeze());
+  }
+
+  /**
+   * Change the object using a private copy of the current version and publish the result. If other thread publish a new version while the change is applied, the change is
+   * applied again over the new version, so the {@code updater} can be called more than once and must not have other side effects.
+   *
+   * @param updater the code that change the private copy.
+   * @return the new read only version published.
+   */
+  public JSONObject update(Consumer<JSONObject> updater) {
+    while (true) {
+      JSONObject current = reference.get();
+      JSONObject copy = current.thaw();
+      updater.accept(copy);
+      JSONObject next = copy.freeze();
+      if (reference.compareAndSet(current, next)) {
+        return next;
+      }
+    }
+  }
+}
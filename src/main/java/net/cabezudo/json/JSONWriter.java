@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link net.cabezudo.json.JSONWriter} writes JSON elements directly in an {@code Appendable} or an {@code OutputStream}.
+ *
+ * <p>
+ * Every element writes its own JSON code in the destination using {@link net.cabezudo.json.JSONable#toJSON(java.lang.Appendable)}, so the objects and arrays write the childs
+ * one by one in the destination instead of create a {@code String} for every child. The JSON code written is the same that the {@link net.cabezudo.json.JSONable#toJSON()}
+ * method returns.
+ *
+ * <p>
+ * A writer created with an {@link net.cabezudo.json.Indentation} writes indented JSON code. The indented code is written in the destination in the same pass, using the strings
+ * for every level kept by the {@link net.cabezudo.json.Indentation}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONWriter implements Flushable {
+
+  private final Appendable appendable;
+  private final Indentation indentation;
+  private final boolean canonical;
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONWriter} that writes in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   */
+  public JSONWriter(Appendable appendable) {
+    this(appendable, null);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONWriter} that writes indented JSON code in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use or {@code null} to write the JSON code without indentation.
+   */
+  public JSONWriter(Appendable appendable, Indentation indentation) {
+    this(appendable, indentation, false);
+  }
+
+  private JSONWriter(Appendable appendable, Indentation indentation, boolean canonical) {
+    if (appendable == null) {
+      throw new IllegalArgumentException("The parameter appendable is null.");
+    }
+    this.appendable = appendable;
+    this.indentation = indentation;
+    this.canonical = canonical;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONWriter} that writes in the {@code OutputStream} passed using the UTF-8 encoding. The characters are kept in a buffer, call
+   * {@link #flush()} to send them to the stream. The stream is not closed by the writer.
+   *
+   * @param outputStream the destination for the JSON code.
+   */
+  public JSONWriter(OutputStream outputStream) {
+    this(outputStream, null);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONWriter} that writes indented JSON code in the {@code OutputStream} passed using the UTF-8 encoding. The characters are kept in a
+   * buffer, call {@link #flush()} to send them to the stream. The stream is not closed by the writer.
+   *
+   * @param outputStream the destination for the JSON code.
+   * @param indentation the indentation to use or {@code null} to write the JSON code without indentation.
+   */
+  public JSONWriter(OutputStream outputStream, Indentation indentation) {
+    this(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)), indentation);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONWriter} that writes canonical JSON code (RFC 8785) in the {@code Appendable} passed. The canonical code of two equal values is the
+   * same, so it can be used to calculate a hash or to find duplicated documents. The code is written in one pass over the structure, without create a sorted copy of it.
+   *
+   * @param appendable the destination for the JSON code.
+   * @return a {@link net.cabezudo.json.JSONWriter} that writes canonical JSON code.
+   * @see net.cabezudo.json.JSONable#toCanonicalJSON(java.lang.Appendable)
+   */
+  public static JSONWriter canonical(Appendable appendable) {
+    return new JSONWriter(appendable, null, true);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.JSONWriter} that writes canonical JSON code (RFC 8785) in the {@code OutputStream} passed using the UTF-8 encoding. The characters are
+   * kept in a buffer, call {@link #flush()} to send them to the stream. The stream is not closed by the writer.
+   *
+   * @param outputStream the destination for the JSON code.
+   * @return a {@link net.cabezudo.json.JSONWriter} that writes canonical JSON code.
+   */
+  public static JSONWriter canonical(OutputStream outputStream) {
+    return canonical(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Write the JSON code for the element passed.
+   *
+   * @param element the element to write.
+   * @return {@code this} writer.
+   * @throws IOException if the destination can't be written.
+   */
+  public JSONWriter write(JSONable element) throws IOException {
+    if (canonical) {
+      element.toCanonicalJSON(appendable);
+    } else if (indentation == null) {
+      element.toJSON(appendable);
+    } else {
+      element.toFormatedJSON(appendable, indentation, 0);
+    }
+    return this;
+  }
+
+  /**
+   * Send to the destination the characters in the buffers if the destination can be flushed.
+   *
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (appendable instanceof Flushable) {
+      ((Flushable) appendable).flush();
+    }
+  }
+
+  /**
+   * Return the JSON code for the element passed, written in a {@code StringBuilder}.
+   *
+   * @param element the element to write.
+   * @return a {@code String} with the JSON code for the element.
+   */
+  public static String toJSON(JSONable element) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      element.toJSON(sb);
+    } catch (IOException e) {
+      // A StringBuilder never throws an IOException.
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Return the indented JSON code for the element passed, written in a {@code StringBuilder}.
+   *
+   * @param element the element to write.
+   * @param indentation the indentation to use.
+   * @return a {@code String} with the indented JSON code for the element.
+   */
+  public static String toFormatedJSON(JSONable element, Indentation indentation) {
+    StringBuilder sb = new StringBuilder();
+    indentation.format(sb, element, 0);
+    return sb.toString();
+  }
+
+  /**
+   * Return the canonical JSON code (RFC 8785) for the element passed, written in a {@code StringBuilder}.
+   *
+   * @param element the element to write.
+   * @return a {@code String} with the canonical JSON code for the element.
+   */
+  public static String toCanonicalJSON(JSONable element) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      element.toCanonicalJSON(sb);
+    } catch (IOException e) {
+      // A StringBuilder never throws an IOException.
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Return the UTF-8 bytes of the canonical JSON code (RFC 8785) for the element passed. Use the bytes to calculate a hash of the element.
+   *
+   * @param element the element to write.
+   * @return an array with the bytes of the canonical JSON code for the element.
+   */
+  public static byte[] toCanonicalBytes(JSONable element) {
+    JSONByteWriter writer = new JSONByteWriter();
+    try {
+      element.toCanonicalJSON(writer);
+    } catch (IOException e) {
+      // A JSONByteWriter never throws an IOException.
+      throw new UncheckedIOException(e);
+    }
+    return writer.toByteArray();
+  }
+}
@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json;
 
+import java.io.IOException;
 import net.cabezudo.json.values.JSONValue;
 
 /**
@@ -40,6 +41,48 @@ public interface JSONable {
    */
   String toJSON();
 
+  /**
+   * Write the JSON code for {@code this} element in the {@code Appendable} passed. The code written is the same that {@link #toJSON()} returns. The elements with childs write
+   * the childs directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  default void toJSON(Appendable appendable) throws IOException {
+    appendable.append(toJSON());
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} element in the {@code Appendable} passed. The first line is not indented because it is written after the key or the indent
+   * written by the parent. The elements without childs write the same code that {@link #toJSON(java.lang.Appendable)}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} element in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  default void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    toJSON(appendable);
+  }
+
+  /**
+   * Write the canonical JSON code (RFC 8785) for {@code this} element in the {@code Appendable} passed. The canonical code has no whitespace, the properties of the objects
+   * sorted by the UTF-16 code units of the names, the strings with the minimal escape sequences and the numbers in the shortest form of the double value. The default
+   * implementation writes the canonical code of the JSON structure for {@code this} element, or the code of {@link #toJSON(java.lang.Appendable)} if the element is its own
+   * structure.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  default void toCanonicalJSON(Appendable appendable) throws IOException {
+    JSONValue tree = toJSONTree();
+    if (tree == this) {
+      toJSON(appendable);
+    } else {
+      tree.toCanonicalJSON(appendable);
+    }
+  }
+
   /**
    * Create a JSON structure with this object.
    *
@@ -0,0 +1,104 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+
+/**
+ * Write the numbers of the JSON code without the {@code BigDecimal} conversions.
+ *
+ * <p>
+ * The integers are written digit by digit directly in the buffer of a {@link net.cabezudo.json.JSONByteWriter} or a {@code StringBuilder}. The numbers with decimals are
+ * written as an integer part and a fraction of six digits, both calculated with {@code long} values, so the exact decimal digits of the doubles with six or less decimals are
+ * written without create a {@code BigDecimal}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public final class NumberWriter {
+
+  private static final int FRACTION_DIGITS = 6;
+  private static final long FRACTION_SCALE = 1_000_000;
+
+  private NumberWriter() {
+    // Nothing to do here. Utility class.
+  }
+
+  /**
+   * Write the decimal digits of the number passed in the {@code Appendable} passed.
+   *
+   * @param value the number to write.
+   * @param appendable the destination for the digits.
+   * @throws IOException if the destination can't be written.
+   */
+  public static void writeLong(long value, Appendable appendable) throws IOException {
+    if (appendable instanceof JSONByteWriter) {
+      ((JSONByteWriter) appendable).writeLong(value);
+    } else if (appendable instanceof StringBuilder) {
+      ((StringBuilder) appendable).append(value);
+    } else {
+      appendable.append(Long.toString(value));
+    }
+  }
+
+  /**
+   * Write the number passed rounded to six decimals and without the zeros at the right of the decimal point in the {@code Appendable} passed. The value written for a double
+   * with six or less decimals is the exact value, like the plain string of the {@code BigDecimal} for the double. The absolute value must be less than 2^63.
+   *
+   * @param value the number to write.
+   * @param appendable the destination for the digits.
+   * @throws IOException if the destination can't be written.
+   */
+  public static void writeFixed(double value, Appendable appendable) throws IOException {
+    double absoluteValue = Math.abs(value);
+    long integerPart = (long) absoluteValue;
+    // The difference between a double and its integer part is always an exact double.
+    long fraction = Math.round((absoluteValue - integerPart) * FRACTION_SCALE);
+    if (fraction == FRACTION_SCALE) {
+      integerPart++;
+      fraction = 0;
+    }
+    if (value < 0 && (integerPart != 0 || fraction != 0)) {
+      appendable.append('-');
+    }
+    writeLong(integerPart, appendable);
+    if (fraction == 0) {
+      return;
+    }
+    int decimals = FRACTION_DIGITS;
+    while (fraction % 10 == 0) {
+      fraction /= 10;
+      decimals--;
+    }
+    appendable.append('.');
+    int digits = 1;
+    for (long rest = fraction / 10; rest != 0; rest /= 10) {
+      digits++;
+    }
+    for (int i = digits; i < decimals; i++) {
+      appendable.append('0');
+    }
+    writeLong(fraction, appendable);
+  }
+}
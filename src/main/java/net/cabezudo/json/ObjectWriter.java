@@ -0,0 +1,219 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.NotPropertiesException;
+import net.cabezudo.json.exceptions.ObjectException;
+import net.cabezudo.json.values.JSONNull;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * Write the JSON code for a POJO without create the JSON structure. Follow the same rules that {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}. The fields annotated
+ * and the getters for every class are found once and kept.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+final class ObjectWriter {
+
+  private static final ClassValue<List<Property>> PROPERTIES = new ClassValue<List<Property>>() {
+    @Override
+    protected List<Property> computeValue(Class<?> type) {
+      List<Property> properties = new ArrayList<>();
+      for (Field field : JSON.getInheritedFields(type)) {
+        JSONProperty annotation = field.getAnnotation(JSONProperty.class);
+        if (annotation != null) {
+          properties.add(new Property(type, field, annotation));
+        }
+      }
+      return properties;
+    }
+  };
+
+  private ObjectWriter() {
+    // Nothing to do here. Utility class.
+  }
+
+  static void write(Object object, Appendable appendable) throws IOException {
+    if (object == null) {
+      appendable.append(JSONNull.NULL);
+      return;
+    }
+    if (object instanceof JSONValue) {
+      ((JSONValue) object).toJSON(appendable);
+      return;
+    }
+    if (object instanceof Iterable) {
+      appendable.append("[ ");
+      boolean first = true;
+      for (Object child : (Iterable<?>) object) {
+        if (child != null && child.getClass().equals(object.getClass())) {
+          throw new RuntimeException("Circular reference from " + object.getClass().getName());
+        }
+        if (!first) {
+          appendable.append(", ");
+        }
+        write(child, appendable);
+        first = false;
+      }
+      appendable.append(" ]");
+      return;
+    }
+    if (object instanceof Object[]) {
+      appendable.append("[ ");
+      boolean first = true;
+      for (Object child : (Object[]) object) {
+        if (!first) {
+          appendable.append(", ");
+        }
+        write(child, appendable);
+        first = false;
+      }
+      appendable.append(" ]");
+      return;
+    }
+    if (writeValue(object, appendable)) {
+      return;
+    }
+    writeProperties(object, appendable);
+  }
+
+  // Write the values that JSONFactory converts, the most common without create a JSON value.
+  private static boolean writeValue(Object object, Appendable appendable) throws IOException {
+    if (object instanceof String) {
+      appendable.append('"');
+      JSONEscaper.escapeRaw((String) object, appendable);
+      appendable.append('"');
+      return true;
+    }
+    if (object instanceof Integer || object instanceof Long || object instanceof Short || object instanceof Byte) {
+      NumberWriter.writeLong(((Number) object).longValue(), appendable);
+      return true;
+    }
+    if (object instanceof Boolean) {
+      appendable.append(object.toString());
+      return true;
+    }
+    JSONValue jsonValue = JSONFactory.get(object);
+    if (jsonValue == null) {
+      return false;
+    }
+    jsonValue.toJSON(appendable);
+    return true;
+  }
+
+  private static void writeProperties(Object object, Appendable appendable) throws IOException {
+    boolean first = true;
+    for (Property property : PROPERTIES.get(object.getClass())) {
+      Object fieldValue = property.getValue(object);
+      if (property.skip(fieldValue)) {
+        continue;
+      }
+      appendable.append(first ? "{ " : ", ").append(property.prefix);
+      first = false;
+      try {
+        write(fieldValue, appendable);
+      } catch (NotPropertiesException e) {
+        throw new NotPropertiesException("The field named '" + property.name + "' contain an object " + fieldValue.getClass().getName() + " doesn't have properties.");
+      }
+    }
+    if (first) {
+      throw new NotPropertiesException("The object " + object.getClass().getName() + " doesn't have properties.");
+    }
+    appendable.append(" }");
+  }
+
+  private static final class Property {
+
+    private final Class<?> type;
+    private final String name;
+    // The key with the quotes, the colon and the space.
+    private final String prefix;
+    private final String getterName;
+    private final JSONProperty annotation;
+    private volatile Method getter;
+
+    private Property(Class<?> type, Field field, JSONProperty annotation) {
+      this.type = type;
+      String propertyName = annotation.name();
+      this.name = JSONProperty.DEFAULT_NAME.equals(propertyName) ? field.getName() : propertyName;
+      this.prefix = "\"" + JSONEscaper.escape(name) + "\": ";
+      this.getterName = JSON.getGetterName(field, name);
+      this.annotation = annotation;
+    }
+
+    private Object getValue(Object object) {
+      Method method = getter;
+      if (method == null) {
+        try {
+          method = type.getMethod(getterName);
+        } catch (NoSuchMethodException e) {
+          throw new ObjectException("I can't find the getter '" + getterName + "' in the object " + type.getName(), e);
+        }
+        getter = method;
+      }
+      try {
+        return method.invoke(object);
+      } catch (InvocationTargetException e) {
+        throw new ObjectException("The method  " + getterName + " for the object " + object.getClass().getName() + " throw an error.", e);
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        throw new ObjectException("Getting the field value using " + getterName + " in the object " + object.getClass().getName() + ".", e);
+      }
+    }
+
+    // The same checks that JSON.toJSONTree does for the values that JSONFactory converts.
+    private boolean skip(Object fieldValue) {
+      if (fieldValue == null) {
+        return annotation.dontShowIfNull();
+      }
+      if (fieldValue instanceof String || fieldValue instanceof Boolean) {
+        return false;
+      }
+      if (fieldValue instanceof Integer) {
+        return annotation.dontShowIfZero() && (Integer) fieldValue == 0;
+      }
+      if (!annotation.dontShowIfNull() && !annotation.dontShowIfZero() && !annotation.dontShowIfEmpty()) {
+        return false;
+      }
+      JSONValue jsonValue = JSONFactory.get(fieldValue);
+      if (jsonValue == null) {
+        return false;
+      }
+      if (annotation.dontShowIfNull() && jsonValue instanceof JSONNull) {
+        return true;
+      }
+      if (jsonValue.isNumber() && annotation.dontShowIfZero() && jsonValue.toInteger() == 0) {
+        return true;
+      }
+      return (jsonValue.isArray() || jsonValue.isObject()) && annotation.dontShowIfEmpty() && jsonValue.isEmpty();
+    }
+  }
+}
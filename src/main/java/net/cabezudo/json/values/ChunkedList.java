@@ -0,0 +1,227 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list that stores the elements in blocks of fixed capacity, used for the elements of a very large {@link net.cabezudo.json.values.JSONArray}.
+ *
+ * <p>
+ * The list grows adding a new block, so the elements are never copied to a bigger array. An element inserted or removed in the middle of the list only moves the elements of
+ * its block. While the elements are only added at the end all the blocks are full and the block for an index is calculated directly, after an insertion or removal in the middle
+ * the block is searched using the first index of every block.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @param <E> the type of elements in this list
+ * @version 0.9, 10/19/2026
+ */
+final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+  private static final int BLOCK_SHIFT = 12;
+  private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+  private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+  private Object[][] blocks = new Object[8][];
+  // The index of the first element of every block.
+  private int[] starts = new int[8];
+  private int blockCount;
+  private int size;
+  // True while all the blocks, except the last one, are full.
+  private boolean uniform = true;
+
+  ChunkedList() {
+    // Nothing to do here. The first block is created with the first element.
+  }
+
+  ChunkedList(Collection<? extends E> elements) {
+    for (E element : elements) {
+      add(element);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    checkIndex(index, size);
+    if (uniform) {
+      return (E) blocks[index >>> BLOCK_SHIFT][index & BLOCK_MASK];
+    }
+    int block = blockOf(index);
+    return (E) blocks[block][index - starts[block]];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E set(int index, E element) {
+    checkIndex(index, size);
+    int block = uniform ? index >>> BLOCK_SHIFT : blockOf(index);
+    int offset = index - starts[block];
+    E oldElement = (E) blocks[block][offset];
+    blocks[block][offset] = element;
+    return oldElement;
+  }
+
+  @Override
+  public boolean add(E element) {
+    int last = blockCount - 1;
+    if (blockCount == 0 || blockSize(last) == BLOCK_SIZE) {
+      insertBlock(blockCount, new Object[BLOCK_SIZE], size);
+      last++;
+    }
+    blocks[last][size - starts[last]] = element;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    checkIndex(index, size + 1);
+    if (index == size) {
+      add(element);
+      return;
+    }
+    int block = blockOf(index);
+    if (blockSize(block) == BLOCK_SIZE) {
+      splitBlock(block);
+      if (index >= starts[block + 1]) {
+        block++;
+      }
+    }
+    int offset = index - starts[block];
+    Object[] elements = blocks[block];
+    System.arraycopy(elements, offset, elements, offset + 1, blockSize(block) - offset);
+    elements[offset] = element;
+    for (int i = block + 1; i < blockCount; i++) {
+      starts[i]++;
+    }
+    size++;
+    uniform = false;
+    modCount++;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E remove(int index) {
+    checkIndex(index, size);
+    int block = uniform ? index >>> BLOCK_SHIFT : blockOf(index);
+    int blockSize = blockSize(block);
+    int offset = index - starts[block];
+    Object[] elements = blocks[block];
+    E oldElement = (E) elements[offset];
+    System.arraycopy(elements, offset + 1, elements, offset, blockSize - offset - 1);
+    elements[blockSize - 1] = null;
+    for (int i = block + 1; i < blockCount; i++) {
+      starts[i]--;
+    }
+    size--;
+    if (blockSize == 1) {
+      removeBlock(block);
+    }
+    if (index != size) {
+      uniform = false;
+    }
+    modCount++;
+    return oldElement;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(blocks, 0, blockCount, null);
+    blockCount = 0;
+    size = 0;
+    uniform = true;
+    modCount++;
+  }
+
+  long estimateRetainedBytes() {
+    // blocks, starts, blockCount, size, uniform and modCount.
+    return RetainedSize.object(2, 13) + RetainedSize.array(RetainedSize.REFERENCE, blocks.length) + RetainedSize.array(Integer.BYTES, starts.length)
+            + blockCount * RetainedSize.array(RetainedSize.REFERENCE, BLOCK_SIZE);
+  }
+
+  private int blockSize(int block) {
+    int end = block + 1 < blockCount ? starts[block + 1] : size;
+    return end - starts[block];
+  }
+
+  private int blockOf(int index) {
+    int low = 0;
+    int high = blockCount - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (starts[middle] <= index) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  private void splitBlock(int block) {
+    Object[] elements = blocks[block];
+    int half = BLOCK_SIZE / 2;
+    Object[] newBlock = new Object[BLOCK_SIZE];
+    System.arraycopy(elements, half, newBlock, 0, BLOCK_SIZE - half);
+    Arrays.fill(elements, half, BLOCK_SIZE, null);
+    insertBlock(block + 1, newBlock, starts[block] + half);
+    uniform = false;
+  }
+
+  private void insertBlock(int block, Object[] elements, int start) {
+    if (blockCount == blocks.length) {
+      int newLength = blocks.length + (blocks.length >> 1);
+      blocks = Arrays.copyOf(blocks, newLength);
+      starts = Arrays.copyOf(starts, newLength);
+    }
+    System.arraycopy(blocks, block, blocks, block + 1, blockCount - block);
+    System.arraycopy(starts, block, starts, block + 1, blockCount - block);
+    blocks[block] = elements;
+    starts[block] = start;
+    blockCount++;
+  }
+
+  private void removeBlock(int block) {
+    System.arraycopy(blocks, block + 1, blocks, block, blockCount - block - 1);
+    System.arraycopy(starts, block + 1, starts, block, blockCount - block - 1);
+    blockCount--;
+    blocks[blockCount] = null;
+  }
+
+  private void checkIndex(int index, int limit) {
+    if (index < 0 || index >= limit) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
@@ -0,0 +1,430 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.Position;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+
+/**
+ * A {@link net.cabezudo.json.values.ConcurrentJSONArray} is a version of {@link net.cabezudo.json.values.JSONArray} that can be shared and modified by many threads without
+ * external synchronization.
+ *
+ * <p>
+ * The elements are saved in an array that is never changed. A change creates a new array and replaces the old one using a compare and set operation, retrying if another thread
+ * made a change first, so the reads don't use locks and always see a complete version of the array. The iterators work over the version of the array that exists when they are
+ * created.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class ConcurrentJSONArray extends JSONValue<ConcurrentJSONArray> implements Iterable<JSONValue> {
+
+  private static final JSONValue[] EMPTY_ELEMENTS = new JSONValue[0];
+
+  private final AtomicReference<JSONValue[]> elements = new AtomicReference<>(EMPTY_ELEMENTS);
+
+  /**
+   * Construct an empty {@link net.cabezudo.json.values.ConcurrentJSONArray} object.
+   */
+  public ConcurrentJSONArray() {
+    this((Position) null);
+  }
+
+  /**
+   * Construct an empty {@link net.cabezudo.json.values.ConcurrentJSONArray} object.
+   *
+   * @param position The position for the array in the JSON source.
+   */
+  public ConcurrentJSONArray(Position position) {
+    super(position);
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.ConcurrentJSONArray} object with the elements of a {@link net.cabezudo.json.values.JSONArray}. The values are not copied.
+   *
+   * @param jsonArray the {@link net.cabezudo.json.values.JSONArray} from which elements are taken.
+   */
+  public ConcurrentJSONArray(JSONArray jsonArray) {
+    this(jsonArray.getPosition());
+    elements.set(jsonArray.toArray());
+  }
+
+  private static JSONValue toElement(Object object) {
+    return JSON.toJSONTree(object);
+  }
+
+  /**
+   * Add an element at the end of the array. The object passed is converted using {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param object the value to add.
+   */
+  public void add(Object object) {
+    JSONValue jsonValue = toElement(object);
+    JSONValue[] oldElements;
+    JSONValue[] newElements;
+    do {
+      oldElements = elements.get();
+      newElements = Arrays.copyOf(oldElements, oldElements.length + 1);
+      newElements[oldElements.length] = jsonValue;
+    } while (!elements.compareAndSet(oldElements, newElements));
+  }
+
+  /**
+   * Replace the element in the position {@code index}. The object passed is converted using {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param index the position of the element to replace.
+   * @param object the new value for the element.
+   * @return the element previously at the specified position.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public JSONValue setValue(int index, Object object) {
+    JSONValue jsonValue = toElement(object);
+    JSONValue[] oldElements;
+    JSONValue[] newElements;
+    do {
+      oldElements = elements.get();
+      checkIndex(index, oldElements.length);
+      newElements = oldElements.clone();
+      newElements[index] = jsonValue;
+    } while (!elements.compareAndSet(oldElements, newElements));
+    return oldElements[index];
+  }
+
+  /**
+   * Remove the element in the {@code index} position.
+   *
+   * @param index the position of the element to remove.
+   * @return the element removed.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public JSONValue remove(int index) {
+    JSONValue[] oldElements;
+    JSONValue[] newElements;
+    do {
+      oldElements = elements.get();
+      checkIndex(index, oldElements.length);
+      newElements = new JSONValue[oldElements.length - 1];
+      System.arraycopy(oldElements, 0, newElements, 0, index);
+      System.arraycopy(oldElements, index + 1, newElements, index, oldElements.length - index - 1);
+    } while (!elements.compareAndSet(oldElements, newElements));
+    return oldElements[index];
+  }
+
+  private static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Compare two arrays using the size.
+   *
+   * @param jsonArray the {@link net.cabezudo.json.values.ConcurrentJSONArray} to be compared.
+   * @return a value less than {@code 0} if {@code this} array is smaller than the argument, a value greater than {@code 0} if is bigger and {@code 0} if both have the same size.
+   */
+  @Override
+  public int compareTo(ConcurrentJSONArray jsonArray) {
+    return Integer.compare(size(), jsonArray.size());
+  }
+
+  /**
+   * Retrieve the {@link JSONValue} of the element in the position {@code index}.
+   *
+   * @param index the position in the array for the element to retrieve.
+   * @return a {@link JSONValue} or null if the {@code index} is out of range.
+   */
+  public JSONValue getNullValue(int index) {
+    JSONValue[] values = elements.get();
+    if (index < 0 || index >= values.length) {
+      return null;
+    }
+    return values[index];
+  }
+
+  /**
+   * Retrieve the {@link JSONValue} of the element in the position {@code index}.
+   *
+   * @param index the position in the array for the element to retrieve.
+   * @return a {@link JSONValue}.
+   * @throws ElementNotExistException if the {@code index} is out of range.
+   */
+  public JSONValue getValue(int index) throws ElementNotExistException {
+    JSONValue jsonValue = getNullValue(index);
+    if (jsonValue == null) {
+      throw new ElementNotExistException("The index " + index + " doesn't have a value.", getPosition());
+    }
+    return jsonValue;
+  }
+
+  /**
+   * Dig into {@code this} array to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: [2].childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value or {@code null} if the property doesn't exist.
+   */
+  public JSONValue digNullValue(String fullPropertyName) {
+    return digNullValue(fullPropertyName, 1);
+  }
+
+  @Override
+  JSONValue digNullValue(String fullPropertyName, int oldPosition) {
+    if (fullPropertyName == null || fullPropertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    int index = JSONArray.getIndexFrom(fullPropertyName, oldPosition);
+    int point = fullPropertyName.indexOf('.');
+    if (point == -1) {
+      return getNullValue(index);
+    }
+    int p = point + 1;
+    if (p >= fullPropertyName.length()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    JSONValue nextLevelValue = getNullValue(index);
+    if (nextLevelValue == null) {
+      return null;
+    }
+    return nextLevelValue.digNullValue(fullPropertyName.substring(p), p + oldPosition);
+  }
+
+  /**
+   * Dig into {@code this} array to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: [2].childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue digValue(String fullPropertyName) throws PropertyNotExistException {
+    JSONValue value = digNullValue(fullPropertyName);
+    if (value == null) {
+      throw new PropertyNotExistException(fullPropertyName, "The property " + fullPropertyName + " doesn't exist.", getPosition());
+    }
+    return value;
+  }
+
+  /**
+   * Tells whether or not {@code this} array has elements.
+   *
+   * @return {@code true} if {@code this} array has elements; {@code false} otherwise.
+   */
+  @Override
+  public Boolean hasElements() {
+    return size() > 0;
+  }
+
+  /**
+   * Returns whether the element is an array or not.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  public boolean isArray() {
+    return true;
+  }
+
+  /**
+   * Returns whether the array is empty or not.
+   *
+   * @return {@code true} if the array hasn't elements, {@code false} otherwise.
+   */
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns an iterator over the elements that {@code this} array has in the moment of the call. The iterator can't be used to remove elements.
+   *
+   * @return an iterator over the elements in {@code this} array.
+   */
+  @Override
+  public Iterator<JSONValue> iterator() {
+    return Collections.unmodifiableList(Arrays.asList(elements.get())).iterator();
+  }
+
+  /**
+   * Returns the number of elements in {@code this} array.
+   *
+   * @return the number of elements in {@code this} array.
+   */
+  public int size() {
+    return elements.get().length;
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by the current version of {@code this} {@link net.cabezudo.json.values.ConcurrentJSONArray}.
+   *
+   * @return the number of bytes retained by {@code this} array.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    JSONValue[] values = elements.get();
+    // The array object, the atomic reference and the array of elements.
+    long size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 1, 0) + RetainedSize.metadataOf(this) + RetainedSize.object(1, 0)
+            + RetainedSize.array(RetainedSize.REFERENCE, values.length);
+    for (JSONValue jsonValue : values) {
+      size += jsonValue.estimateRetainedBytes();
+    }
+    return size;
+  }
+
+  /**
+   * Convert the elements of {@code this} array in an array of objects of type {@link JSONValue}.
+   *
+   * @return an array of type {@link JSONValue} with the elements of {@code this} array.
+   */
+  @Override
+  public JSONValue[] toArray() {
+    return elements.get().clone();
+  }
+
+  /**
+   * Create a JSON string representation of {@code this} array including the JSON string representation of the elements.
+   *
+   * @return a {@code String} representation of {@code this} array.
+   */
+  @Override
+  public String toJSON() {
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for {@code this} array in the {@code Appendable} passed. The childs are written directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    appendable.append("[ ");
+    boolean first = true;
+    for (JSONValue jsonValue : elements.get()) {
+      if (!first) {
+        appendable.append(", ");
+      }
+      jsonValue.toJSON(appendable);
+      first = false;
+    }
+    appendable.append(" ]");
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} array in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} array in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    indentation.writeArray(appendable, Arrays.asList(elements.get()), level);
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} array in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    writeCanonicalArray(appendable, Arrays.asList(elements.get()));
+  }
+
+  /**
+   * Return {@code false} because {@code this} array can be changed by other threads without notify the containers, so a container with it can't keep its serialized form.
+   *
+   * @return {@code false}.
+   */
+  @Override
+  boolean isSerializedStable() {
+    return false;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONArray} with the elements that {@code this} array has in the moment of the call. The values are not copied.
+   *
+   * @return a new {@link net.cabezudo.json.values.JSONArray} with the elements of {@code this} array.
+   */
+  @Override
+  public JSONArray toJSONArray() {
+    JSONArray jsonArray = new JSONArray(getPosition());
+    for (JSONValue jsonValue : elements.get()) {
+      jsonArray.add(jsonValue);
+    }
+    return jsonArray;
+  }
+
+  /**
+   * Convert the elements of {@code this} array in a {@code List} of {@link JSONValue} objects.
+   *
+   * @return a new {@code List} with the elements of {@code this} array.
+   */
+  @Override
+  public List<JSONValue> toList() {
+    return new ArrayList<>(Arrays.asList(elements.get()));
+  }
+
+  /**
+   * Create a referenced {@link net.cabezudo.json.values.JSONArray} using {@link net.cabezudo.json.values.JSONArray#toReferencedElement()}.
+   *
+   * @return a referenced {@link net.cabezudo.json.values.JSONArray}.
+   */
+  @Override
+  public JSONArray toReferencedElement() {
+    return toJSONArray().toReferencedElement();
+  }
+
+  /**
+   * Return a {@code String} with a representation of {@code this} array.
+   *
+   * @return a {@code String} with a representation of {@code this} array.
+   */
+  @Override
+  public String toString() {
+    return toJSON();
+  }
+
+  @Override
+  public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
+    if (includeFirst) {
+      sb.append(JSON.getIndent(indent));
+    }
+    Indentation.DEFAULT.format(sb, this, indent);
+  }
+}
@@ -0,0 +1,533 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.Position;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+
+/**
+ * A {@link net.cabezudo.json.values.ConcurrentJSONObject} is a version of {@link net.cabezudo.json.values.JSONObject} that can be shared and modified by many threads without
+ * external synchronization.
+ *
+ * <p>
+ * The reads don't use locks. The changes of a property are made inside an atomic operation of a {@code ConcurrentHashMap} so the changes of different properties don't block each
+ * other. The properties keep the insertion order for the iteration and the JSON string representation. The iterators are weakly consistent, like the iterators of the concurrent
+ * collections, they never throw {@code ConcurrentModificationException} and can reflect the changes made after their creation.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class ConcurrentJSONObject extends JSONValue<ConcurrentJSONObject> implements Iterable<JSONPair> {
+
+  private final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+  private final ConcurrentNavigableMap<Long, JSONPair> pairs = new ConcurrentSkipListMap<>();
+  private final AtomicLong nextSequence = new AtomicLong();
+
+  /**
+   * Construct an empty {@link net.cabezudo.json.values.ConcurrentJSONObject} object.
+   */
+  public ConcurrentJSONObject() {
+    this((Position) null);
+  }
+
+  /**
+   * Construct an empty {@link net.cabezudo.json.values.ConcurrentJSONObject} object.
+   *
+   * @param position The position for the object in the JSON source.
+   */
+  public ConcurrentJSONObject(Position position) {
+    super(position);
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.ConcurrentJSONObject} object with the properties of a {@link net.cabezudo.json.values.JSONObject}. The values are not copied.
+   *
+   * @param jsonObject the {@link net.cabezudo.json.values.JSONObject} from which properties are taken.
+   */
+  public ConcurrentJSONObject(JSONObject jsonObject) {
+    this(jsonObject.getPosition());
+    for (JSONPair jsonPair : jsonObject) {
+      add(jsonPair);
+    }
+  }
+
+  /**
+   * Add a {@link net.cabezudo.json.JSONPair} to the properties of {@code this} object.
+   *
+   * @param jsonPair a {@link net.cabezudo.json.JSONPair}.
+   * @return the same {@link net.cabezudo.json.JSONPair} passed.
+   * @throws RuntimeException if the object already has a property with the same name.
+   */
+  public JSONPair add(JSONPair jsonPair) {
+    String key = jsonPair.getKey();
+    map.compute(key, (k, entry) -> {
+      if (entry != null) {
+        throw new RuntimeException("The object " + this.toJSON() + " already has the key " + key + ".");
+      }
+      long sequence = nextSequence.getAndIncrement();
+      pairs.put(sequence, jsonPair);
+      return new Entry(sequence, jsonPair);
+    });
+    return jsonPair;
+  }
+
+  /**
+   * Set the value of a property. If the property exists the value is replaced and the property keep the position, otherwise the property is added at the end. The object passed
+   * is converted using {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param key the name of the property.
+   * @param object the value for the property.
+   * @return the {@link net.cabezudo.json.JSONPair} replaced or {@code null} if the property doesn't exist.
+   */
+  public JSONPair put(String key, Object object) {
+    JSONPair jsonPair = new JSONPair(key, JSON.toJSONTree(object));
+    JSONPair[] oldPair = new JSONPair[1];
+    map.compute(key, (k, entry) -> {
+      long sequence;
+      if (entry == null) {
+        sequence = nextSequence.getAndIncrement();
+      } else {
+        sequence = entry.sequence;
+        oldPair[0] = entry.jsonPair;
+      }
+      pairs.put(sequence, jsonPair);
+      return new Entry(sequence, jsonPair);
+    });
+    return oldPair[0];
+  }
+
+  /**
+   * Add a property only if the object doesn't have a property with the same name. The object passed is converted using
+   * {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param key the name of the property.
+   * @param object the value for the property.
+   * @return the {@link net.cabezudo.json.JSONPair} that the object has after the call.
+   */
+  public JSONPair putIfAbsent(String key, Object object) {
+    Entry entry = map.computeIfAbsent(key, k -> {
+      JSONPair jsonPair = new JSONPair(key, JSON.toJSONTree(object));
+      long sequence = nextSequence.getAndIncrement();
+      pairs.put(sequence, jsonPair);
+      return new Entry(sequence, jsonPair);
+    });
+    return entry.jsonPair;
+  }
+
+  /**
+   * Remove a property from {@code this} object using the property name.
+   *
+   * @param propertyName the name of the property to remove.
+   * @return the {@link net.cabezudo.json.JSONPair} removed or {@code null} if the property doesn't exist.
+   */
+  public JSONPair remove(String propertyName) {
+    JSONPair[] oldPair = new JSONPair[1];
+    map.computeIfPresent(propertyName, (k, entry) -> {
+      pairs.remove(entry.sequence);
+      oldPair[0] = entry.jsonPair;
+      return null;
+    });
+    return oldPair[0];
+  }
+
+  /**
+   * Returns <tt>true</tt> if this {@link net.cabezudo.json.values.ConcurrentJSONObject} contains the specified property.
+   *
+   * @param propertyName whose presence in this object is to be tested
+   * @return <tt>true</tt> if this object contains the specified property
+   */
+  public boolean contains(String propertyName) {
+    return map.containsKey(propertyName);
+  }
+
+  /**
+   * Compare two {@link net.cabezudo.json.values.ConcurrentJSONObject} objects using the number of properties first and the property names in natural order if the number of
+   * properties is the same.
+   *
+   * @param jsonObject the {@link net.cabezudo.json.values.ConcurrentJSONObject} to be compared.
+   * @return the value {@code 0} if both objects have the same property names; a value less than {@code 0} if {@code this} object is less than the argument; and a value greater
+   * than {@code 0} if {@code this} object is greater than the argument.
+   */
+  @Override
+  public int compareTo(ConcurrentJSONObject jsonObject) {
+    List<String> keyList = getKeyList();
+    List<String> otherKeyList = jsonObject.getKeyList();
+    int c = Integer.compare(keyList.size(), otherKeyList.size());
+    if (c != 0) {
+      return c;
+    }
+    for (int i = 0; i < keyList.size(); i++) {
+      c = keyList.get(i).compareTo(otherKeyList.get(i));
+      if (c != 0) {
+        return c;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Return a {@code List} with the names of the properties of {@code this} object in natural order.
+   *
+   * @return a new {@code List} with the names of the properties.
+   */
+  public List<String> getKeyList() {
+    List<String> keyList = new ArrayList<>(map.keySet());
+    Collections.sort(keyList);
+    return keyList;
+  }
+
+  /**
+   * Return the element associated with the property name or {@code null} if the property doesn't exist.
+   *
+   * @param propertyName the name of the property to get.
+   * @return the {@link net.cabezudo.json.JSONPair} with the property name specified or {@code null}.
+   */
+  public JSONPair getNullElement(String propertyName) {
+    Entry entry = map.get(propertyName);
+    if (entry == null) {
+      return null;
+    }
+    return entry.jsonPair;
+  }
+
+  /**
+   * Return the value of the property with the name passed. If the property doesn't exist return {@code null}.
+   *
+   * @param propertyName the name of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONValue} or {@code null}.
+   */
+  public JSONValue getNullValue(String propertyName) {
+    if (propertyName == null || propertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + propertyName + "'.");
+    }
+    JSONPair jsonPair = getNullElement(propertyName);
+    if (jsonPair == null) {
+      return null;
+    }
+    return jsonPair.getValue();
+  }
+
+  /**
+   * Return the value of the property with the name passed.
+   *
+   * @param propertyName the name of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONValue}.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue getValue(String propertyName) throws PropertyNotExistException {
+    JSONValue jsonValue = getNullValue(propertyName);
+    if (jsonValue == null) {
+      throw new PropertyNotExistException(propertyName, "The property " + propertyName + " doesn't exist.", getPosition());
+    }
+    return jsonValue;
+  }
+
+  /**
+   * Dig into {@code this} object to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: person.childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value or {@code null} if the property doesn't exist.
+   */
+  public JSONValue digNullValue(String fullPropertyName) {
+    return digNullValue(fullPropertyName, 1);
+  }
+
+  @Override
+  JSONValue digNullValue(String fullPropertyName, int oldPosition) {
+    if (fullPropertyName == null || fullPropertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    int point = fullPropertyName.indexOf('.');
+    if (point == -1) {
+      return getNullValue(fullPropertyName);
+    }
+    int newStartPosition = point + 1;
+    if (newStartPosition >= fullPropertyName.length()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    JSONValue nextLevelValue = getNullValue(fullPropertyName.substring(0, point));
+    if (nextLevelValue == null) {
+      return null;
+    }
+    return nextLevelValue.digNullValue(fullPropertyName.substring(newStartPosition), newStartPosition + oldPosition);
+  }
+
+  /**
+   * Dig into {@code this} object to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: person.childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue digValue(String fullPropertyName) throws PropertyNotExistException {
+    JSONValue value = digNullValue(fullPropertyName);
+    if (value == null) {
+      throw new PropertyNotExistException(fullPropertyName, "The property " + fullPropertyName + " doesn't exist.", getPosition());
+    }
+    return value;
+  }
+
+  /**
+   * Tells whether or not {@code this} object has properties.
+   *
+   * @return {@code true} if {@code this} object has properties; {@code false} otherwise.
+   */
+  @Override
+  public Boolean hasElements() {
+    return !map.isEmpty();
+  }
+
+  /**
+   * Returns whether the element is empty or not.
+   *
+   * @return {@code true} if the object hasn't properties, {@code false} otherwise.
+   */
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  /**
+   * Tells whether or not {@code this} object is a JSON object.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  public boolean isObject() {
+    return true;
+  }
+
+  /**
+   * Tells whether or not {@code this} object is referenceable.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  public boolean isReferenceable() {
+    return true;
+  }
+
+  /**
+   * Returns a weakly consistent iterator over the properties in {@code this} object in insertion order. The iterator can't be used to remove properties.
+   *
+   * @return an iterator over the properties in {@code this} object.
+   */
+  @Override
+  public Iterator<JSONPair> iterator() {
+    return Collections.unmodifiableCollection(pairs.values()).iterator();
+  }
+
+  /**
+   * Returns the number of properties in {@code this} object.
+   *
+   * @return the number of properties in {@code this} object.
+   */
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} {@link net.cabezudo.json.values.ConcurrentJSONObject}. The size of the concurrent maps is estimated
+   * using the number of properties.
+   *
+   * @return the number of bytes retained by {@code this} object.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    // The object, the two maps and the sequence counter.
+    long size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 3, 0) + RetainedSize.metadataOf(this) + RetainedSize.object(6, 16) + RetainedSize.object(3, 8)
+            + RetainedSize.object(0, Long.BYTES);
+    for (JSONPair jsonPair : pairs.values()) {
+      // The hash map node and table slot, the entry, the skip list node with its index nodes and the boxed sequence.
+      size += RetainedSize.object(3, 4) + 2 * RetainedSize.REFERENCE + RetainedSize.object(1, 8) + 2 * RetainedSize.object(3, 0) + RetainedSize.object(0, Long.BYTES);
+      size += RetainedSize.of(jsonPair);
+    }
+    return size;
+  }
+
+  /**
+   * Convert the properties values of {@code this} object in an array of elements of type {@link net.cabezudo.json.values.JSONValue}.
+   *
+   * @return an array of type {@link net.cabezudo.json.values.JSONValue} with the values of {@code this} object properties.
+   */
+  @Override
+  public JSONValue[] toArray() {
+    List<JSONValue> values = new ArrayList<>();
+    for (JSONPair jsonPair : pairs.values()) {
+      values.add(jsonPair.getValue());
+    }
+    return values.toArray(new JSONValue[values.size()]);
+  }
+
+  /**
+   * Create a JSON string representation of {@code this} object including the JSON string representation of the properties.
+   *
+   * @return a {@code String} representation of {@code this} object.
+   */
+  @Override
+  public String toJSON() {
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for {@code this} object in the {@code Appendable} passed. The childs are written directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    appendable.append("{ ");
+    boolean first = true;
+    for (JSONPair jsonPair : pairs.values()) {
+      if (!first) {
+        appendable.append(", ");
+      }
+      jsonPair.toJSON(appendable);
+      first = false;
+    }
+    appendable.append(" }");
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} object in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} object in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    indentation.writeObject(appendable, pairs.values(), level);
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} object in the {@code Appendable} passed. The properties are written sorted by the name. The pairs are taken from a snapshot of
+   * the object.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    JSONPair[] sortedPairs = pairs.values().toArray(new JSONPair[0]);
+    Arrays.sort(sortedPairs, (a, b) -> a.getKey().compareTo(b.getKey()));
+    writeCanonicalObject(appendable, Arrays.asList(sortedPairs));
+  }
+
+  /**
+   * Return {@code false} because {@code this} object can be changed by other threads without notify the containers, so a container with it can't keep its serialized form.
+   *
+   * @return {@code false}.
+   */
+  @Override
+  boolean isSerializedStable() {
+    return false;
+  }
+
+  /**
+   * Convert the properties values of {@code this} object in a {@link net.cabezudo.json.values.JSONArray} object leaving out the properties names.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONArray} with the values of {@code this} object properties.
+   */
+  @Override
+  public JSONArray toJSONArray() {
+    JSONArray jsonArray = new JSONArray();
+    for (JSONPair jsonPair : pairs.values()) {
+      jsonArray.add(jsonPair.getValue());
+    }
+    return jsonArray;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONObject} with the properties that {@code this} object has in the moment of the call. The values are not copied.
+   *
+   * @return a new {@link net.cabezudo.json.values.JSONObject} with the properties of {@code this} object.
+   */
+  @Override
+  public JSONObject toJSONObject() {
+    JSONObject jsonObject = new JSONObject(getPosition());
+    for (JSONPair jsonPair : pairs.values()) {
+      jsonObject.add(jsonPair);
+    }
+    return jsonObject;
+  }
+
+  /**
+   * Create a referenced {@link net.cabezudo.json.values.JSONObject} using {@link net.cabezudo.json.values.JSONObject#toReferencedElement()}.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the referenced element for {@code this} object.
+   */
+  @Override
+  public JSONValue toReferencedElement() {
+    return toJSONObject().toReferencedElement();
+  }
+
+  /**
+   * Return a {@code String} with a representation of {@code this} object.
+   *
+   * @return a {@code String} with a representation of {@code this} object.
+   */
+  @Override
+  public String toString() {
+    return toJSON();
+  }
+
+  @Override
+  public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
+    if (includeFirst) {
+      sb.append(JSON.getIndent(indent));
+    }
+    Indentation.DEFAULT.format(sb, this, indent);
+  }
+
+  private static final class Entry {
+
+    private final long sequence;
+    private final JSONPair jsonPair;
+
+    private Entry(long sequence, JSONPair jsonPair) {
+      this.sequence = sequence;
+      this.jsonPair = jsonPair;
+    }
+  }
+}
@@ -23,16 +23,24 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import net.cabezudo.json.Indentation;
 import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONByteWriter;
 import net.cabezudo.json.JSONElement;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.InvalidOperationException;
 import net.cabezudo.json.exceptions.PropertyNotExistException;
 
 /**
@@ -47,7 +55,22 @@ import net.cabezudo.json.exceptions.PropertyNotExistException;
  */
 public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValue> {
 
-  private final List<JSONValue> list = new ArrayList<>();
+  /**
+   * A shared empty {@link net.cabezudo.json.values.JSONArray} object. The array can't be modified.
+   */
+  public static final JSONArray EMPTY = new JSONArray().setReadOnly();
+
+  // The arrays with more elements use a ChunkedList in order to avoid copy all the elements when the list grows.
+  private static final int CHUNKED_THRESHOLD = 1 << 16;
+
+  // Changed to a NumericList while the array only contains numbers.
+  private List<JSONValue> list = new ArrayList<>();
+  private boolean readOnly;
+  private volatile long contentHash;
+  private volatile long retainedBytes;
+  // The UTF-8 JSON code kept by a caching JSONByteWriter, removed when this array or a child changes, and the containers with a serialized form that include this array.
+  private Object parents;
+  private volatile byte[] serialized;
 
   /**
    * Construct an empty JSON array object.
@@ -104,27 +127,292 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
   public JSONArray(int[] intArray) {
     super(null);
     for (int i : intArray) {
-      internalAdd(i);
+      addNumber(i);
+    }
+  }
+
+  private JSONArray setReadOnly() {
+    readOnly = true;
+    return this;
+  }
+
+  private void checkModifiable() {
+    if (readOnly) {
+      throw new InvalidOperationException("The array " + this.toJSON() + " is read only.");
     }
   }
 
+  /**
+   * Returns whether {@code this} {@link net.cabezudo.json.values.JSONArray} can be modified or not.
+   *
+   * @return {@code true} if the elements of {@code this} array can't be added, replaced or removed; {@code false} otherwise.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Create a read only copy of {@code this} {@link net.cabezudo.json.values.JSONArray}. The objects and arrays in the elements are copied in read only objects and arrays too, so
+   * the copy can't be changed at any level and can be shared between threads without synchronization. If {@code this} array is already read only the method return {@code this}
+   * array.
+   *
+   * @return a read only {@link net.cabezudo.json.values.JSONArray}.
+   */
+  public JSONArray freeze() {
+    if (readOnly) {
+      return this;
+    }
+    Builder builder = builder(getPosition(), list.size());
+    for (JSONValue jsonValue : list) {
+      builder.add(JSONObject.freeze(jsonValue));
+    }
+    JSONArray jsonArray = builder.build();
+    jsonArray.setReferenceFieldName(getReferenceFieldName());
+    return jsonArray.setReadOnly();
+  }
+
+  /**
+   * Create a copy of {@code this} {@link net.cabezudo.json.values.JSONArray} that can be changed. The objects and arrays in the elements are copied too, so the copy can be
+   * changed at any level without change {@code this} array.
+   *
+   * @return a new {@link net.cabezudo.json.values.JSONArray} that can be changed.
+   */
+  public JSONArray thaw() {
+    Builder builder = builder(getPosition(), list.size());
+    for (JSONValue jsonValue : list) {
+      builder.add(JSONObject.thaw(jsonValue));
+    }
+    JSONArray jsonArray = builder.build();
+    jsonArray.setReferenceFieldName(getReferenceFieldName());
+    return jsonArray;
+  }
+
   private void internalAdd(JSONValue jsonValue) {
+    checkModifiable();
+    invalidateSerialized();
     if (jsonValue == null) {
-      list.add(new JSONNull());
-    } else {
-      list.add(jsonValue);
+      jsonValue = JSONNull.get();
+    }
+    if (list.isEmpty() && jsonValue.isNumber() && !(list instanceof NumericList)) {
+      list = new NumericList();
+    }
+    if (list instanceof NumericList) {
+      if (((NumericList) list).tryAdd(jsonValue)) {
+        return;
+      }
+      list = toGeneralList(list);
+    }
+    list.add(jsonValue);
+    checkSize();
+  }
+
+  /**
+   * Insert an element in the position {@code index} of {@code this} {@link net.cabezudo.json.values.JSONArray}. The element in that position and the elements after it are
+   * moved one position to the right. For the very large arrays only the elements in the same block of the storage are moved.
+   *
+   * @param index the position for the new element.
+   * @param jsonValue the element to add.
+   */
+  public void add(int index, JSONValue jsonValue) {
+    checkModifiable();
+    if (index == list.size()) {
+      internalAdd(jsonValue);
+      return;
+    }
+    invalidateSerialized();
+    if (jsonValue == null) {
+      jsonValue = JSONNull.get();
+    }
+    if (list instanceof NumericList) {
+      if (((NumericList) list).tryAdd(index, jsonValue)) {
+        return;
+      }
+      list = toGeneralList(list);
+    }
+    list.add(index, jsonValue);
+    checkSize();
+  }
+
+  @Override
+  void addParent(JSONValue parent) {
+    // A read only array never changes, so it doesn't need to know its parents.
+    if (!readOnly) {
+      parents = Parents.add(parents, parent);
+    }
+  }
+
+  @Override
+  void invalidateSerialized() {
+    // A parent keeps its serialized form only while the childs keep one, so an array without it doesn't have parents to notify.
+    if (serialized != null) {
+      serialized = null;
+      Object oldParents = parents;
+      parents = null;
+      Parents.invalidate(oldParents);
+    }
+  }
+
+  @Override
+  boolean isSerializedStable() {
+    return serialized != null;
+  }
+
+  private void checkSize() {
+    if (list instanceof ArrayList && list.size() >= CHUNKED_THRESHOLD) {
+      list = new ChunkedList<>(list);
+    }
+  }
+
+  private static List<JSONValue> toGeneralList(List<JSONValue> elements) {
+    if (elements.size() >= CHUNKED_THRESHOLD) {
+      return new ChunkedList<>(elements);
+    }
+    return new ArrayList<>(elements);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONArray.Builder} to create an array with the number of elements expected. The storage for the elements is created using the size
+   * expected, so it doesn't grow while the elements are added.
+   *
+   * @param expectedSize the number of elements expected.
+   * @return a new {@link net.cabezudo.json.values.JSONArray.Builder}.
+   */
+  public static Builder builder(int expectedSize) {
+    return builder(null, expectedSize);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONArray.Builder} to create an array with the number of elements expected.
+   *
+   * @param position the position of the array in the JSON source.
+   * @param expectedSize the number of elements expected.
+   * @return a new {@link net.cabezudo.json.values.JSONArray.Builder}.
+   */
+  public static Builder builder(Position position, int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+    }
+    return new Builder(position, expectedSize);
+  }
+
+  /**
+   * A builder to create a {@link net.cabezudo.json.values.JSONArray} when the number of elements is known. The values that are already
+   * {@link net.cabezudo.json.values.JSONValue} objects are used without conversion.
+   */
+  public static final class Builder {
+
+    private JSONArray jsonArray;
+    private final int expectedSize;
+
+    private Builder(Position position, int expectedSize) {
+      this.jsonArray = new JSONArray(position);
+      this.expectedSize = expectedSize;
+    }
+
+    /**
+     * Add an element to the array.
+     *
+     * @param jsonValue the element to add.
+     * @return {@code this} builder.
+     */
+    public Builder add(JSONValue jsonValue) {
+      JSONArray array = getArray();
+      if (array.list.isEmpty()) {
+        // The first element decides the storage used, a primitive storage for numbers or a list for any other value.
+        boolean isNumber = jsonValue != null && jsonValue.isNumber();
+        if (isNumber) {
+          array.list = new NumericList(expectedSize);
+        } else if (expectedSize >= CHUNKED_THRESHOLD) {
+          array.list = new ChunkedList<>();
+        } else {
+          array.list = new ArrayList<>(expectedSize);
+        }
+      }
+      array.internalAdd(jsonValue);
+      return this;
+    }
+
+    /**
+     * Add an element to the array. The value is converted using {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+     *
+     * @param object the element to add.
+     * @return {@code this} builder.
+     */
+    public Builder add(Object object) {
+      return add(object == null ? null : JSON.toJSONTree(object));
+    }
+
+    /**
+     * Add a number element using a primitive {@code long} value.
+     *
+     * @param value the number to add.
+     * @return {@code this} builder.
+     */
+    public Builder addNumber(long value) {
+      JSONArray array = getArray();
+      if (array.list.isEmpty()) {
+        array.list = new NumericList(expectedSize);
+      }
+      array.addNumber(value);
+      return this;
+    }
+
+    /**
+     * Return the {@link net.cabezudo.json.values.JSONArray} created. The builder can't be used after this call.
+     *
+     * @return the {@link net.cabezudo.json.values.JSONArray} created.
+     */
+    public JSONArray build() {
+      JSONArray array = getArray();
+      jsonArray = null;
+      return array;
+    }
+
+    private JSONArray getArray() {
+      if (jsonArray == null) {
+        throw new IllegalStateException("The array was already built.");
+      }
+      return jsonArray;
     }
   }
 
   private void internalAdd(Object object) {
     if (object == null) {
-      list.add(new JSONNull());
+      internalAdd((JSONValue) null);
     } else {
       JSONValue jsonValue = JSON.toJSONTree(object);
-      list.add(jsonValue);
+      internalAdd(jsonValue);
     }
   }
 
+  /**
+   * Add a number element using a primitive {@code long} value. While an array only contains numbers the values are stored using primitive values, so the
+   * {@link net.cabezudo.json.values.JSONNumber} object for the element is not created until the element is read.
+   *
+   * @param value the number to add.
+   */
+  public void addNumber(long value) {
+    checkModifiable();
+    invalidateSerialized();
+    if (list.isEmpty() && !(list instanceof NumericList)) {
+      list = new NumericList();
+    }
+    if (list instanceof NumericList && ((NumericList) list).tryAdd(value)) {
+      return;
+    }
+    internalAdd(new JSONNumber(value));
+  }
+
+  /**
+   * Add a number element using a primitive {@code double} value. The value is converted in the same way that a {@code Double} object is converted to a
+   * {@link net.cabezudo.json.values.JSONNumber}.
+   *
+   * @param value the number to add.
+   */
+  public void addNumber(double value) {
+    internalAdd(new JSONNumber(value));
+  }
+
   /**
    * Add an element using the provided.
    *
@@ -165,6 +453,102 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
     return thisSize.compareTo(arraySize);
   }
 
+  /**
+   * Compares {@code this} {@link net.cabezudo.json.values.JSONArray} with the specified object for equality. Two arrays are equal if they have the same elements in the same
+   * order. The positions in the source are not compared. If both arrays are read only the content hash is compared first.
+   *
+   * @param o the object to be compared.
+   * @return {@code true} if the argument is a {@link net.cabezudo.json.values.JSONArray} with the same elements, {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    JSONArray jsonArray = (JSONArray) o;
+    if (list.size() != jsonArray.list.size()) {
+      return false;
+    }
+    if (readOnly && jsonArray.readOnly && contentHash() != jsonArray.contentHash()) {
+      return false;
+    }
+    return list.equals(jsonArray.list);
+  }
+
+  /**
+   * Return the hash code for {@code this} {@link net.cabezudo.json.values.JSONArray} using the content hash.
+   *
+   * @return the hash code for {@code this} array.
+   */
+  @Override
+  public int hashCode() {
+    long hash = contentHash();
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Return a 64 bits hash of the content of {@code this} {@link net.cabezudo.json.values.JSONArray}. A read only array keeps the hash after the first call, any other array
+   * calculates the hash every time because the elements can be changed.
+   *
+   * @return the content hash for {@code this} array.
+   */
+  @Override
+  public long contentHash() {
+    long hash = contentHash;
+    if (hash != 0) {
+      return hash;
+    }
+    long h = 1;
+    for (JSONValue jsonValue : list) {
+      h = h * 0x9e3779b97f4a7c15L + jsonValue.contentHash();
+    }
+    hash = containerHash(h, list.size());
+    if (readOnly) {
+      contentHash = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} {@link net.cabezudo.json.values.JSONArray}, including the storage for the elements and the elements.
+   * A read only array keeps the estimation after the first call.
+   *
+   * @return the number of bytes retained by {@code this} array.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    long size = retainedBytes;
+    if (size == 0) {
+      // list, parents, serialized, readOnly, contentHash and retainedBytes.
+      size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 3, 17) + RetainedSize.metadataOf(this);
+      if (list instanceof NumericList) {
+        size += ((NumericList) list).estimateRetainedBytes();
+      } else {
+        if (list instanceof ChunkedList) {
+          size += ((ChunkedList<?>) list).estimateRetainedBytes();
+        } else {
+          size += RetainedSize.ofArrayList(list);
+        }
+        for (JSONValue jsonValue : list) {
+          size += jsonValue.estimateRetainedBytes();
+        }
+      }
+      if (readOnly) {
+        retainedBytes = size;
+      }
+    }
+    // The parents and the serialized form change after the array is created, so they are never kept.
+    size += Parents.estimateRetainedBytes(parents);
+    byte[] bytes = serialized;
+    if (bytes != null) {
+      size += RetainedSize.array(1, bytes.length);
+    }
+    return size;
+  }
+
   /**
    * Remove the element in the {@code index} position.
    *
@@ -172,6 +556,8 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return the element removed.
    */
   public JSONElement remove(int index) {
+    checkModifiable();
+    invalidateSerialized();
     return list.remove(index);
   }
 
@@ -249,6 +635,16 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
     return !list.isEmpty();
   }
 
+  /**
+   * Return whether {@code this} array is read only, like the {@link #EMPTY} array or a frozen array, because it can be shared.
+   *
+   * @return {@code true} if {@code this} array is shared; {@code false} otherwise.
+   */
+  @Override
+  protected boolean isShared() {
+    return readOnly;
+  }
+
   /**
    * Returns whether the element is an array or not.
    *
@@ -276,7 +672,28 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public Iterator<JSONValue> iterator() {
-    return list.iterator();
+    if (readOnly) {
+      return Collections.unmodifiableList(list).iterator();
+    }
+    Iterator<JSONValue> iterator = list.iterator();
+    return new Iterator<JSONValue>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public JSONValue next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        // The element is removed from the array, so the serialized form kept is not valid.
+        invalidateSerialized();
+      }
+    };
   }
 
   /**
@@ -287,6 +704,16 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return the {@link net.cabezudo.json.values.JSONValue} element previously at the specified position.
    */
   public JSONValue setValue(int index, JSONValue jsonValue) {
+    checkModifiable();
+    invalidateSerialized();
+    if (list instanceof NumericList) {
+      NumericList numericList = (NumericList) list;
+      JSONValue oldValue = numericList.get(index);
+      if (numericList.trySet(index, jsonValue)) {
+        return oldValue;
+      }
+      list = toGeneralList(list);
+    }
     return list.set(index, jsonValue);
   }
 
@@ -308,13 +735,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public JSONValue[] toArray() {
-    JSONValue[] array = new JSONValue[list.size()];
-    int i = 0;
-    for (JSONValue jsonValue : list) {
-      array[i] = jsonValue;
-      i++;
-    }
-    return array;
+    return list.toArray(new JSONValue[list.size()]);
   }
 
   /**
@@ -324,6 +745,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public byte[] toByteArray() {
+    if (list instanceof NumericList) {
+      return ((NumericList) list).toByteArray();
+    }
     byte[] byteArray = new byte[list.size()];
     int i = 0;
     for (JSONValue jsonValue : list) {
@@ -340,6 +764,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public int[] toIntArray() {
+    if (list instanceof NumericList) {
+      return ((NumericList) list).toIntArray();
+    }
     int[] intArray = new int[list.size()];
     int i = 0;
     for (JSONValue jsonValue : list) {
@@ -356,6 +783,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public double[] toDoubleArray() {
+    if (list instanceof NumericList) {
+      return ((NumericList) list).toDoubleArray();
+    }
     double[] doubleArray = new double[list.size()];
     int i = 0;
     for (JSONValue jsonValue : list) {
@@ -372,16 +802,92 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public String toJSON() {
-    StringBuilder sb = new StringBuilder("[ ");
-    if (list.size() > 0) {
-      for (JSONValue jsonElement : list) {
-        sb.append(jsonElement.toJSON());
-        sb.append(", ");
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for {@code this} array in the {@code Appendable} passed. The childs are written directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    if (appendable instanceof JSONByteWriter && ((JSONByteWriter) appendable).isCachingContainers()) {
+      writeSerialized((JSONByteWriter) appendable);
+    } else {
+      writeJSON(appendable);
+    }
+  }
+
+  private void writeSerialized(JSONByteWriter writer) throws IOException {
+    byte[] bytes = serialized;
+    if (bytes != null) {
+      writer.writeRaw(bytes, 0, bytes.length);
+      return;
+    }
+    int start = writer.size();
+    writeJSON(writer);
+    if (!(list instanceof NumericList)) {
+      for (JSONValue jsonValue : list) {
+        if (!jsonValue.isSerializedStable()) {
+          return;
+        }
+      }
+      // The childs notify this array when they change.
+      for (JSONValue jsonValue : list) {
+        jsonValue.addParent(this);
       }
-      sb = new StringBuilder(sb.substring(0, sb.length() - 2));
     }
-    sb.append(" ]");
-    return sb.toString();
+    serialized = writer.toByteArray(start);
+  }
+
+  private void writeJSON(Appendable appendable) throws IOException {
+    appendable.append("[ ");
+    int size = list.size();
+    if (list instanceof NumericList) {
+      NumericList numericList = (NumericList) list;
+      for (int i = 0; i < size; i++) {
+        if (i > 0) {
+          appendable.append(", ");
+        }
+        numericList.toJSON(i, appendable);
+      }
+    } else {
+      boolean first = true;
+      for (JSONValue jsonValue : list) {
+        if (!first) {
+          appendable.append(", ");
+        }
+        jsonValue.toJSON(appendable);
+        first = false;
+      }
+    }
+    appendable.append(" ]");
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} array in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} array in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    indentation.writeArray(appendable, list, level);
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} array in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    writeCanonicalArray(appendable, list);
   }
 
   /**
@@ -411,11 +917,31 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public List<JSONValue> toList() {
-    List<JSONValue> newList = new ArrayList<>();
-    for (JSONValue jsonValue : list) {
-      newList.add(jsonValue);
+    return new ArrayList<>(list);
+  }
+
+  /**
+   * Return an unmodifiable view of the elements of {@code this} {@link net.cabezudo.json.values.JSONArray}. The view doesn't copy the elements, it reads them from the array, so
+   * the changes in the array are seen in the view. Use {@link #toList()} to get a copy that doesn't change.
+   *
+   * @return a {@code List} backed by {@code this} array.
+   */
+  public List<JSONValue> asList() {
+    return new ElementsView();
+  }
+
+  // The storage of the array can be replaced, so the view always reads the current one.
+  private final class ElementsView extends AbstractList<JSONValue> implements RandomAccess {
+
+    @Override
+    public JSONValue get(int index) {
+      return list.get(index);
+    }
+
+    @Override
+    public int size() {
+      return list.size();
     }
-    return newList;
   }
 
   /**
@@ -803,6 +1329,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
     return digNullValue(fullPropertyName, 1);
   }
 
+  @Override
   JSONValue digNullValue(String fullPropertyName, int oldPosition) {
     if (fullPropertyName == null || fullPropertyName.isEmpty()) {
       throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
@@ -824,20 +1351,11 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
         return null;
       }
       String nextPropertyName = fullPropertyName.substring(p);
-
-      if (nextLevelValue.isObject()) {
-        JSONObject nextLevelObject = nextLevelValue.toJSONObject();
-        return nextLevelObject.digNullValue(nextPropertyName, p + oldPosition);
-      }
-      if (nextLevelValue.isArray()) {
-        JSONArray nextLevelArray = nextLevelValue.toJSONArray();
-        return nextLevelArray.digNullValue(nextPropertyName, p + oldPosition);
-      }
+      return nextLevelValue.digNullValue(nextPropertyName, p + oldPosition);
     }
-    throw new RuntimeException("The next level value is not an object nor an array.");
   }
 
-  private int getIndexFrom(String property, int oldPosition) {
+  static int getIndexFrom(String property, int oldPosition) {
     char c = property.charAt(0);
     if (c != '[') {
       throw new RuntimeException("Invalid format for property. Expect a left bracket ([) and have a '" + c + "' in position " + oldPosition + ".");
@@ -1248,15 +1766,6 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
     if (includeFirst) {
       sb.append(JSON.getIndent(indent));
     }
-    sb.append("[\n");
-    if (!list.isEmpty()) {
-      list.forEach(entry -> {
-        entry.toFormatedString(sb, indent + 1, true);
-        sb.append(",\n");
-      });
-      sb.setLength(Math.max(sb.length() - 2, 0));
-      sb.append("\n");
-    }
-    sb.append(JSON.getIndent(indent)).append("]");
+    Indentation.DEFAULT.format(sb, this, indent);
   }
 }
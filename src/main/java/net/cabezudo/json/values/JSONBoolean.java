@@ -79,6 +79,17 @@ public class JSONBoolean extends JSONValue<JSONBoolean> {
     return value.compareTo(jsonBoolean.toBoolean());
   }
 
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} value. There are only two shared {@link net.cabezudo.json.values.JSONBoolean} objects, so a value
+   * doesn't retain any memory.
+   *
+   * @return zero.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    return 0;
+  }
+
   /**
    * Return the referenced element for {@code this} object. For a {@link net.cabezudo.json.values.JSONBoolean} object, {@code this} object and the referenced version is the same.
    *
@@ -89,6 +100,16 @@ public class JSONBoolean extends JSONValue<JSONBoolean> {
     return this;
   }
 
+  /**
+   * Return whether {@code this} value is the shared {@link #TRUE} or {@link #FALSE} object.
+   *
+   * @return {@code true} if {@code this} value is shared; {@code false} otherwise.
+   */
+  @Override
+  protected boolean isShared() {
+    return this == TRUE || this == FALSE;
+  }
+
   /**
    * Returns whether the element is a {@link net.cabezudo.json.values.JSONBoolean} or not.
    *
@@ -0,0 +1,589 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONElement;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+
+/**
+ * A {@link net.cabezudo.json.values.JSONCursor} is a {@link net.cabezudo.json.values.JSONValue} that points to a value saved in a {@link net.cabezudo.json.values.JSONDocument}.
+ *
+ * <p>
+ * A cursor only has the document and the position of the value, every method reads the document when it is called. The methods that return a value of the document, like
+ * {@link #getValue(java.lang.String)} or {@link #digValue(java.lang.String)}, return new cursors, so a read never creates a JSON structure. The methods that convert the value to a
+ * JSON structure, like {@link #toJSONTree()}, create a copy of the value in the heap. The JSON code, compact or indented, and the conversions to Java values are read from the
+ * document without create the copy.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public final class JSONCursor extends JSONValue<JSONCursor> {
+
+  private final JSONDocument document;
+  private final int node;
+
+  JSONCursor(JSONDocument document, int node) {
+    super(null);
+    this.document = document;
+    this.node = node;
+  }
+
+  private byte getTag() {
+    return document.getTag(node);
+  }
+
+  // The cursor for an element of an array or the value of a property of an object using the insertion order.
+  private JSONCursor getElementCursor(int index) {
+    int element = document.getElement(node, index);
+    return new JSONCursor(document, isObject() ? document.getEntryValue(element) : element);
+  }
+
+  // Only the value pointed is decoded from the document. The objects and arrays can't be converted to a leaf value, so the empty ones are used in order to throw the same
+  // exceptions that a copy of the value throws without create the copy.
+  private JSONValue<?> getLeafValue() {
+    switch (getTag()) {
+      case JSONDocument.ARRAY:
+        return JSONArray.EMPTY;
+      case JSONDocument.OBJECT:
+        return JSONObject.EMPTY;
+      default:
+        return document.toJSONValue(node);
+    }
+  }
+
+  /**
+   * Compare two {@link net.cabezudo.json.values.JSONCursor} objects. The numbers are compared by value, any other value is compared using the JSON string representation.
+   *
+   * @param cursor the {@link net.cabezudo.json.values.JSONCursor} to be compared.
+   * @return the value {@code 0} if the values are equal; a value less than {@code 0} if {@code this} value is less than the argument; and a value greater than {@code 0} if
+   * {@code this} value is greater than the argument.
+   */
+  @Override
+  public int compareTo(JSONCursor cursor) {
+    if (isNumber() && cursor.isNumber()) {
+      return toBigDecimal().compareTo(cursor.toBigDecimal());
+    }
+    return toJSON().compareTo(cursor.toJSON());
+  }
+
+  /**
+   * Compares two {@link net.cabezudo.json.values.JSONCursor} objects. Two cursors are equal if they point to the same value of the same document.
+   *
+   * @param o the {@code Object} to be compared.
+   * @return {@code true} if {@code this} cursor is equal to the argument {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof JSONCursor)) {
+      return false;
+    }
+    JSONCursor cursor = (JSONCursor) o;
+    return document == cursor.document && node == cursor.node;
+  }
+
+  /**
+   * Return the hash code for this {@link net.cabezudo.json.values.JSONCursor}.
+   *
+   * @return hash code for this {@link net.cabezudo.json.values.JSONCursor}.
+   */
+  @Override
+  public int hashCode() {
+    return 31 * System.identityHashCode(document) + node;
+  }
+
+  /**
+   * Return a {@code List} with the names of the properties in natural order if the cursor points to an object. For any other value return an empty {@code List}.
+   *
+   * @return a {@code List} with the names of the properties.
+   */
+  public List<String> getKeyList() {
+    if (!isObject()) {
+      return new ArrayList<>();
+    }
+    int count = document.getCount(node);
+    List<String> keyList = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      keyList.add(document.getKey(document.getEntry(node, i)));
+    }
+    Collections.sort(keyList);
+    return keyList;
+  }
+
+  /**
+   * Return the value of the property with the name passed if the cursor points to an object. If the property doesn't exist or the cursor doesn't point to an object return
+   * {@code null}.
+   *
+   * @param propertyName the name of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONCursor} or {@code null}.
+   */
+  public JSONCursor getNullValue(String propertyName) {
+    if (propertyName == null || propertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + propertyName + "'.");
+    }
+    if (!isObject()) {
+      return null;
+    }
+    int value = document.find(node, propertyName);
+    if (value == -1) {
+      return null;
+    }
+    return new JSONCursor(document, value);
+  }
+
+  /**
+   * Return the element in the position {@code index} if the cursor points to an array or the value of the property in the position {@code index} if the cursor points to an
+   * object. If the {@code index} is out of range or the cursor points to another value return {@code null}.
+   *
+   * @param index the position of the element to return.
+   * @return a {@link net.cabezudo.json.values.JSONCursor} or {@code null}.
+   */
+  public JSONCursor getNullValue(int index) {
+    if (index < 0 || index >= size()) {
+      return null;
+    }
+    if (isArray()) {
+      return new JSONCursor(document, document.getElement(node, index));
+    }
+    return new JSONCursor(document, document.getEntryValue(document.getEntry(node, index)));
+  }
+
+  /**
+   * Return the value of the property with the name passed.
+   *
+   * @param propertyName the name of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONCursor}.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONCursor getValue(String propertyName) throws PropertyNotExistException {
+    JSONCursor cursor = getNullValue(propertyName);
+    if (cursor == null) {
+      throw new PropertyNotExistException(propertyName, "The property " + propertyName + " doesn't exist.", getPosition());
+    }
+    return cursor;
+  }
+
+  /**
+   * Return the element or the value of the property in the position {@code index}.
+   *
+   * @param index the position of the element to return.
+   * @return a {@link net.cabezudo.json.values.JSONCursor}.
+   * @throws ElementNotExistException if the {@code index} is out of range.
+   */
+  public JSONCursor getValue(int index) throws ElementNotExistException {
+    JSONCursor cursor = getNullValue(index);
+    if (cursor == null) {
+      throw new ElementNotExistException("The index " + index + " doesn't have a value.", getPosition());
+    }
+    return cursor;
+  }
+
+  /**
+   * Dig into the value to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets. Example:
+   * person.childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value or {@code null} if the property doesn't exist.
+   */
+  public JSONValue digNullValue(String fullPropertyName) {
+    return digNullValue(fullPropertyName, 1);
+  }
+
+  @Override
+  JSONValue digNullValue(String fullPropertyName, int oldPosition) {
+    if (fullPropertyName == null || fullPropertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    if (!isObject() && !isArray()) {
+      return null;
+    }
+    int point = fullPropertyName.indexOf('.');
+    String name = point == -1 ? fullPropertyName : fullPropertyName.substring(0, point);
+    JSONCursor nextLevelValue;
+    if (isArray()) {
+      nextLevelValue = getNullValue(JSONArray.getIndexFrom(fullPropertyName, oldPosition));
+    } else {
+      nextLevelValue = getNullValue(name);
+    }
+    if (point == -1 || nextLevelValue == null) {
+      return nextLevelValue;
+    }
+    int newStartPosition = point + 1;
+    if (newStartPosition >= fullPropertyName.length()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    return nextLevelValue.digNullValue(fullPropertyName.substring(newStartPosition), newStartPosition + oldPosition);
+  }
+
+  /**
+   * Dig into the value to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets. Example:
+   * person.childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue digValue(String fullPropertyName) throws PropertyNotExistException {
+    JSONValue value = digNullValue(fullPropertyName);
+    if (value == null) {
+      throw new PropertyNotExistException(fullPropertyName, "The property " + fullPropertyName + " doesn't exist.", getPosition());
+    }
+    return value;
+  }
+
+  /**
+   * Tells whether or not the value has elements.
+   *
+   * @return {@code true} if the value is an array or an object and has elements; {@code false} otherwise.
+   */
+  @Override
+  public Boolean hasElements() {
+    return size() > 0;
+  }
+
+  @Override
+  public boolean isArray() {
+    return getTag() == JSONDocument.ARRAY;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    byte tag = getTag();
+    return tag == JSONDocument.TRUE || tag == JSONDocument.FALSE;
+  }
+
+  /**
+   * Returns whether the value is empty or not.
+   *
+   * @return {@code true} if the array or the object hasn't elements, {@code false} otherwise.
+   */
+  @Override
+  public boolean isEmpty() {
+    if (!isArray() && !isObject()) {
+      return super.isEmpty();
+    }
+    return size() == 0;
+  }
+
+  @Override
+  public boolean isNull() {
+    return getTag() == JSONDocument.NULL;
+  }
+
+  @Override
+  public boolean isNumber() {
+    byte tag = getTag();
+    return tag == JSONDocument.LONG || tag == JSONDocument.NUMBER;
+  }
+
+  @Override
+  public boolean isObject() {
+    return getTag() == JSONDocument.OBJECT;
+  }
+
+  @Override
+  public boolean isReferenceable() {
+    return isObject();
+  }
+
+  @Override
+  public boolean isString() {
+    return getTag() == JSONDocument.STRING;
+  }
+
+  /**
+   * Returns the number of elements of an array or the number of properties of an object. For any other value return {@code 0}.
+   *
+   * @return the number of elements or properties.
+   */
+  public int size() {
+    if (!isArray() && !isObject()) {
+      return 0;
+    }
+    return document.getCount(node);
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} {@link net.cabezudo.json.values.JSONCursor}. A cursor keeps the whole document, so the size of the
+   * document is included.
+   *
+   * @return the number of bytes retained by {@code this} cursor.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    return RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 1, Integer.BYTES) + document.getByteSize();
+  }
+
+  @Override
+  public JSONValue[] toArray() {
+    if (isArray() || isObject()) {
+      int size = size();
+      JSONValue[] array = new JSONValue[size];
+      for (int i = 0; i < size; i++) {
+        array[i] = getElementCursor(i);
+      }
+      return array;
+    }
+    return getLeafValue().toArray();
+  }
+
+  @Override
+  public BigDecimal toBigDecimal() {
+    if (getTag() == JSONDocument.LONG) {
+      return BigDecimal.valueOf(document.getLong(node)).stripTrailingZeros();
+    }
+    return getLeafValue().toBigDecimal();
+  }
+
+  @Override
+  public BigInteger toBigInteger() {
+    if (getTag() == JSONDocument.LONG) {
+      return BigInteger.valueOf(document.getLong(node));
+    }
+    return getLeafValue().toBigInteger();
+  }
+
+  @Override
+  public Boolean toBoolean() {
+    byte tag = getTag();
+    if (tag == JSONDocument.TRUE || tag == JSONDocument.FALSE) {
+      return tag == JSONDocument.TRUE;
+    }
+    return getLeafValue().toBoolean();
+  }
+
+  @Override
+  public Byte toByte() {
+    return getLeafValue().toByte();
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    if (!isArray()) {
+      return getLeafValue().toByteArray();
+    }
+    byte[] byteArray = new byte[size()];
+    for (int i = 0; i < byteArray.length; i++) {
+      byteArray[i] = getElementCursor(i).toByte();
+    }
+    return byteArray;
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    if (!isArray()) {
+      return getLeafValue().toDoubleArray();
+    }
+    double[] doubleArray = new double[size()];
+    for (int i = 0; i < doubleArray.length; i++) {
+      doubleArray[i] = getElementCursor(i).toDouble();
+    }
+    return doubleArray;
+  }
+
+  @Override
+  public int[] toIntArray() {
+    if (!isArray()) {
+      return getLeafValue().toIntArray();
+    }
+    int[] intArray = new int[size()];
+    for (int i = 0; i < intArray.length; i++) {
+      intArray[i] = getElementCursor(i).toInt();
+    }
+    return intArray;
+  }
+
+  @Override
+  public Calendar toCalendar() {
+    return getLeafValue().toCalendar();
+  }
+
+  @Override
+  public Calendar toCalendar(String pattern) {
+    return getLeafValue().toCalendar(pattern);
+  }
+
+  @Override
+  public Character toCharacter() {
+    return getLeafValue().toCharacter();
+  }
+
+  @Override
+  public Double toDouble() {
+    if (getTag() == JSONDocument.LONG) {
+      return (double) document.getLong(node);
+    }
+    return getLeafValue().toDouble();
+  }
+
+  @Override
+  public Float toFloat() {
+    return getLeafValue().toFloat();
+  }
+
+  @Override
+  public int toInt() {
+    return getLeafValue().toInt();
+  }
+
+  @Override
+  public Integer toInteger() {
+    return getLeafValue().toInteger();
+  }
+
+  /**
+   * Create a JSON string representation of the value reading the document.
+   *
+   * @return a {@code String} representation of the value.
+   */
+  @Override
+  public String toJSON() {
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for the value in the {@code Appendable} passed. The code is written directly from the document.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    document.appendJSON(appendable, node);
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} value in the {@code Appendable} passed. The code is written directly from the document.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} value in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    document.appendFormatedJSON(appendable, indentation, level, node);
+  }
+
+  @Override
+  public JSONArray toJSONArray() {
+    return toJSONTree().toJSONArray();
+  }
+
+  @Override
+  public JSONObject toJSONObject() {
+    return toJSONTree().toJSONObject();
+  }
+
+  @Override
+  public JSONString toJSONString() {
+    return getLeafValue().toJSONString();
+  }
+
+  /**
+   * Create a copy in the heap of the value using the JSON structure classes.
+   *
+   * @return a new JSON structure with the value.
+   */
+  @Override
+  public JSONValue toJSONTree() {
+    return document.toJSONValue(node);
+  }
+
+  @Override
+  public List<JSONValue> toList() {
+    if (isArray()) {
+      int size = size();
+      List<JSONValue> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(new JSONCursor(document, document.getElement(node, i)));
+      }
+      return list;
+    }
+    return getLeafValue().toList();
+  }
+
+  @Override
+  public Long toLong() {
+    if (getTag() == JSONDocument.LONG) {
+      return document.getLong(node);
+    }
+    return getLeafValue().toLong();
+  }
+
+  @Override
+  public JSONElement toReferencedElement() {
+    return toJSONTree().toReferencedElement();
+  }
+
+  @Override
+  public Short toShort() {
+    return getLeafValue().toShort();
+  }
+
+  @Override
+  public String toString() {
+    if (isString()) {
+      return getLeafValue().toString();
+    }
+    return toJSON();
+  }
+
+  @Override
+  public String[] toStringArray() {
+    if (!isArray()) {
+      return getLeafValue().toStringArray();
+    }
+    String[] array = new String[size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = getElementCursor(i).toString();
+    }
+    return array;
+  }
+
+  @Override
+  public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
+    if (!isArray() && !isObject()) {
+      getLeafValue().toFormatedString(sb, indent, includeFirst);
+      return;
+    }
+    if (includeFirst) {
+      sb.append(JSON.getIndent(indent));
+    }
+    Indentation.DEFAULT.format(sb, this, indent);
+  }
+}
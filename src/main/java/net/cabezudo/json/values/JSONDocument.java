@@ -0,0 +1,500 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONEscaper;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * A {@link net.cabezudo.json.values.JSONDocument} is a read only JSON structure saved out of the Java heap.
+ *
+ * <p>
+ * The values of the structure are written one after another in a direct {@code ByteBuffer}, so a huge document doesn't create any object in the heap. The values are read using
+ * {@link net.cabezudo.json.values.JSONCursor} objects, small objects that only know the position of a value in the document and implement the {@link JSONValue} methods reading
+ * the document when they are called.
+ *
+ * <p>
+ * Each value start with a byte with the type of the value. The numbers that fit in a {@code long} are saved as a {@code long}, the other numbers and the strings are saved with
+ * the length and the bytes of the text. The arrays save the number of elements and a table with the position of each element. The objects save the number of properties, a table
+ * with the position of each property in insertion order and a table with the position of each property ordered by name in order to find the properties using a binary search. A
+ * property is saved as the length and the bytes of the name followed by the value.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public final class JSONDocument {
+
+  static final byte NULL = 0;
+  static final byte FALSE = 1;
+  static final byte TRUE = 2;
+  static final byte LONG = 3;
+  static final byte NUMBER = 4;
+  static final byte STRING = 5;
+  static final byte ARRAY = 6;
+  static final byte OBJECT = 7;
+
+  private static final int TAG_SIZE = 1;
+  private static final int INT_SIZE = Integer.BYTES;
+  private static final int LONG_SIZE = Long.BYTES;
+
+  private final ByteBuffer tape;
+
+  private JSONDocument(ByteBuffer tape) {
+    this.tape = tape;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONDocument} with a copy of the JSON structure passed. The structure can be released after the document is created.
+   *
+   * @param jsonValue the JSON structure to copy.
+   * @return a new {@link net.cabezudo.json.values.JSONDocument} object.
+   * @throws IllegalArgumentException if the document needs more than {@code Integer.MAX_VALUE} bytes.
+   */
+  public static JSONDocument of(JSONValue jsonValue) {
+    long size = getSize(jsonValue);
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The document needs " + size + " bytes. The maximum size for a document is " + Integer.MAX_VALUE + " bytes.");
+    }
+    ByteBuffer tape = ByteBuffer.allocateDirect((int) size);
+    write(tape, jsonValue, 0);
+    return new JSONDocument(tape);
+  }
+
+  /**
+   * Parse a JSON string and create a {@link net.cabezudo.json.values.JSONDocument} with the structure.
+   *
+   * @param origin the origin of the string used for the error messages.
+   * @param string the string to parse.
+   * @return a new {@link net.cabezudo.json.values.JSONDocument} object.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string.
+   */
+  public static JSONDocument parse(String origin, String string) throws JSONParseException {
+    return of(JSON.parse(origin, string));
+  }
+
+  /**
+   * Return a cursor for the root value of the document.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONCursor} for the root value.
+   */
+  public JSONCursor getRoot() {
+    return new JSONCursor(this, 0);
+  }
+
+  /**
+   * Return the number of bytes used by the document.
+   *
+   * @return the number of bytes used by the document.
+   */
+  public int getByteSize() {
+    return tape.capacity();
+  }
+
+  private static long getSize(JSONValue jsonValue) {
+    if (jsonValue instanceof JSONRaw) {
+      return getSize(jsonValue.toJSONTree());
+    }
+    if (jsonValue == null || jsonValue.isNull() || jsonValue.isBoolean()) {
+      return TAG_SIZE;
+    }
+    if (jsonValue.isNumber()) {
+      if (isLong(jsonValue)) {
+        return TAG_SIZE + LONG_SIZE;
+      }
+      return TAG_SIZE + INT_SIZE + jsonValue.toJSON().length();
+    }
+    if (jsonValue.isString()) {
+      String value = getRawValue(jsonValue);
+      if (value == null) {
+        return TAG_SIZE;
+      }
+      return TAG_SIZE + INT_SIZE + getUTF8Length(value);
+    }
+    if (jsonValue.isArray()) {
+      long size = TAG_SIZE + INT_SIZE;
+      for (JSONValue element : getElements(jsonValue)) {
+        size += INT_SIZE + getSize(element);
+      }
+      return size;
+    }
+    if (jsonValue.isObject()) {
+      long size = TAG_SIZE + INT_SIZE;
+      for (JSONPair jsonPair : getProperties(jsonValue)) {
+        size += INT_SIZE + INT_SIZE + INT_SIZE + getUTF8Length(jsonPair.getKey()) + getSize(jsonPair.getValue());
+      }
+      return size;
+    }
+    throw new IllegalArgumentException("I can't save a " + jsonValue.getClass().getName() + " in a document.");
+  }
+
+  private static int write(ByteBuffer tape, JSONValue jsonValue, int position) {
+    if (jsonValue instanceof JSONRaw) {
+      // The document keeps every value in the tape, so the raw code is parsed.
+      return write(tape, jsonValue.toJSONTree(), position);
+    }
+    if (jsonValue == null || jsonValue.isNull()) {
+      tape.put(position, NULL);
+      return position + TAG_SIZE;
+    }
+    if (jsonValue.isBoolean()) {
+      tape.put(position, jsonValue.toBoolean() ? TRUE : FALSE);
+      return position + TAG_SIZE;
+    }
+    if (jsonValue.isNumber()) {
+      if (isLong(jsonValue)) {
+        tape.put(position, LONG);
+        tape.putLong(position + TAG_SIZE, ((JSONNumber) jsonValue).getLong());
+        return position + TAG_SIZE + LONG_SIZE;
+      }
+      return writeText(tape, NUMBER, jsonValue.toJSON(), position);
+    }
+    if (jsonValue.isString()) {
+      String value = getRawValue(jsonValue);
+      if (value == null) {
+        tape.put(position, NULL);
+        return position + TAG_SIZE;
+      }
+      return writeText(tape, STRING, value, position);
+    }
+    if (jsonValue.isArray()) {
+      List<JSONValue> elements = new ArrayList<>();
+      for (JSONValue element : getElements(jsonValue)) {
+        elements.add(element);
+      }
+      int count = elements.size();
+      tape.put(position, ARRAY);
+      tape.putInt(position + TAG_SIZE, count);
+      int table = position + TAG_SIZE + INT_SIZE;
+      int next = table + count * INT_SIZE;
+      for (int i = 0; i < count; i++) {
+        tape.putInt(table + i * INT_SIZE, next);
+        next = write(tape, elements.get(i), next);
+      }
+      return next;
+    }
+    List<JSONPair> properties = new ArrayList<>();
+    for (JSONPair jsonPair : getProperties(jsonValue)) {
+      properties.add(jsonPair);
+    }
+    int count = properties.size();
+    tape.put(position, OBJECT);
+    tape.putInt(position + TAG_SIZE, count);
+    int table = position + TAG_SIZE + INT_SIZE;
+    int sortedTable = table + count * INT_SIZE;
+    int next = sortedTable + count * INT_SIZE;
+    Integer[] entries = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      JSONPair jsonPair = properties.get(i);
+      entries[i] = next;
+      tape.putInt(table + i * INT_SIZE, next);
+      next = writeText(tape, jsonPair.getKey(), next);
+      next = write(tape, jsonPair.getValue(), next);
+    }
+    Arrays.sort(entries, (a, b) -> compareKeys(tape, a, b));
+    for (int i = 0; i < count; i++) {
+      tape.putInt(sortedTable + i * INT_SIZE, entries[i]);
+    }
+    return next;
+  }
+
+  private static int writeText(ByteBuffer tape, byte tag, String text, int position) {
+    tape.put(position, tag);
+    return writeText(tape, text, position + TAG_SIZE);
+  }
+
+  private static int writeText(ByteBuffer tape, String text, int position) {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    tape.putInt(position, bytes.length);
+    ByteBuffer buffer = tape.duplicate();
+    buffer.position(position + INT_SIZE);
+    buffer.put(bytes);
+    return position + INT_SIZE + bytes.length;
+  }
+
+  private static boolean isLong(JSONValue jsonValue) {
+    return jsonValue instanceof JSONNumber && ((JSONNumber) jsonValue).isLong();
+  }
+
+  private static String getRawValue(JSONValue jsonValue) {
+    if (jsonValue instanceof JSONString) {
+      return ((JSONString) jsonValue).getRawValue();
+    }
+    String json = jsonValue.toJSON();
+    return json.substring(1, json.length() - 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Iterable<JSONValue> getElements(JSONValue jsonValue) {
+    if (jsonValue instanceof Iterable) {
+      return (Iterable<JSONValue>) jsonValue;
+    }
+    return jsonValue.toJSONArray();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Iterable<JSONPair> getProperties(JSONValue jsonValue) {
+    if (jsonValue instanceof Iterable) {
+      return (Iterable<JSONPair>) jsonValue;
+    }
+    return jsonValue.toJSONObject();
+  }
+
+  // The same length that String.getBytes(StandardCharsets.UTF_8) produce, an unpaired surrogate is replaced by one byte.
+  private static int getUTF8Length(String text) {
+    int length = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        length++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static int compareKeys(ByteBuffer tape, int entry, int otherEntry) {
+    int length = tape.getInt(entry);
+    int otherLength = tape.getInt(otherEntry);
+    int limit = Math.min(length, otherLength);
+    for (int i = 0; i < limit; i++) {
+      int c = Integer.compare(tape.get(entry + INT_SIZE + i) & 0xff, tape.get(otherEntry + INT_SIZE + i) & 0xff);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return Integer.compare(length, otherLength);
+  }
+
+  private int compareKey(int entry, byte[] key) {
+    int length = tape.getInt(entry);
+    int limit = Math.min(length, key.length);
+    for (int i = 0; i < limit; i++) {
+      int c = Integer.compare(tape.get(entry + INT_SIZE + i) & 0xff, key[i] & 0xff);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return Integer.compare(length, key.length);
+  }
+
+  byte getTag(int node) {
+    return tape.get(node);
+  }
+
+  int getCount(int node) {
+    return tape.getInt(node + TAG_SIZE);
+  }
+
+  long getLong(int node) {
+    return tape.getLong(node + TAG_SIZE);
+  }
+
+  String getText(int node) {
+    return readText(node + TAG_SIZE);
+  }
+
+  int getElement(int node, int index) {
+    return tape.getInt(node + TAG_SIZE + INT_SIZE + index * INT_SIZE);
+  }
+
+  int getEntry(int node, int index) {
+    return getElement(node, index);
+  }
+
+  String getKey(int entry) {
+    return readText(entry);
+  }
+
+  int getEntryValue(int entry) {
+    return entry + INT_SIZE + tape.getInt(entry);
+  }
+
+  /**
+   * Find the value of a property using a binary search over the table of properties ordered by name.
+   */
+  int find(int node, String key) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    int count = getCount(node);
+    int sortedTable = node + TAG_SIZE + INT_SIZE + count * INT_SIZE;
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int entry = tape.getInt(sortedTable + middle * INT_SIZE);
+      int c = compareKey(entry, keyBytes);
+      if (c < 0) {
+        low = middle + 1;
+      } else if (c > 0) {
+        high = middle - 1;
+      } else {
+        return getEntryValue(entry);
+      }
+    }
+    return -1;
+  }
+
+  private String readText(int position) {
+    int length = tape.getInt(position);
+    byte[] bytes = new byte[length];
+    ByteBuffer buffer = tape.duplicate();
+    buffer.position(position + INT_SIZE);
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  JSONValue toJSONValue(int node) {
+    switch (getTag(node)) {
+      case NULL:
+        return JSONNull.get();
+      case FALSE:
+        return JSONBoolean.FALSE;
+      case TRUE:
+        return JSONBoolean.TRUE;
+      case LONG:
+        return JSONNumber.get(getLong(node));
+      case NUMBER:
+        return new JSONNumber(new BigDecimal(getText(node)));
+      case STRING:
+        return new JSONString(getText(node));
+      case ARRAY: {
+        JSONArray jsonArray = new JSONArray();
+        int count = getCount(node);
+        for (int i = 0; i < count; i++) {
+          jsonArray.add(toJSONValue(getElement(node, i)));
+        }
+        return jsonArray;
+      }
+      default: {
+        JSONObject jsonObject = new JSONObject();
+        int count = getCount(node);
+        for (int i = 0; i < count; i++) {
+          int entry = getEntry(node, i);
+          jsonObject.add(new JSONPair(getKey(entry), toJSONValue(getEntryValue(entry))));
+        }
+        return jsonObject;
+      }
+    }
+  }
+
+  void appendJSON(Appendable appendable, int node) throws IOException {
+    switch (getTag(node)) {
+      case NULL:
+        appendable.append(JSONNull.NULL);
+        break;
+      case FALSE:
+        appendable.append("false");
+        break;
+      case TRUE:
+        appendable.append("true");
+        break;
+      case LONG:
+        appendable.append(Long.toString(getLong(node)));
+        break;
+      case NUMBER:
+        appendable.append(getText(node));
+        break;
+      case STRING:
+        appendable.append('"');
+        JSONEscaper.escapeRaw(getText(node), appendable);
+        appendable.append('"');
+        break;
+      case ARRAY: {
+        appendable.append("[ ");
+        int count = getCount(node);
+        for (int i = 0; i < count; i++) {
+          if (i > 0) {
+            appendable.append(", ");
+          }
+          appendJSON(appendable, getElement(node, i));
+        }
+        appendable.append(" ]");
+        break;
+      }
+      default: {
+        appendable.append("{ ");
+        int count = getCount(node);
+        for (int i = 0; i < count; i++) {
+          if (i > 0) {
+            appendable.append(", ");
+          }
+          int entry = getEntry(node, i);
+          appendable.append('"');
+          JSONEscaper.escape(getKey(entry), appendable);
+          appendable.append("\": ");
+          appendJSON(appendable, getEntryValue(entry));
+        }
+        appendable.append(" }");
+        break;
+      }
+    }
+  }
+
+  void appendFormatedJSON(Appendable appendable, Indentation indentation, int level, int node) throws IOException {
+    byte tag = getTag(node);
+    if (tag != ARRAY && tag != OBJECT) {
+      appendJSON(appendable, node);
+      return;
+    }
+    // The same code that Indentation writes for the objects and arrays in the heap.
+    appendable.append(tag == ARRAY ? '[' : '{');
+    int count = getCount(node);
+    String indent = indentation.get(level + 1);
+    for (int i = 0; i < count; i++) {
+      appendable.append(i == 0 ? "\n" : ",\n").append(indent);
+      if (tag == ARRAY) {
+        appendFormatedJSON(appendable, indentation, level + 1, getElement(node, i));
+      } else {
+        int entry = getEntry(node, i);
+        appendable.append('"');
+        JSONEscaper.escape(getKey(entry), appendable);
+        appendable.append("\": ");
+        appendFormatedJSON(appendable, indentation, level + 1, getEntryValue(entry));
+      }
+    }
+    if (count == 0) {
+      appendable.append("  ");
+    } else {
+      appendable.append('\n').append(indentation.get(level));
+    }
+    appendable.append(tag == ARRAY ? ']' : '}');
+  }
+}
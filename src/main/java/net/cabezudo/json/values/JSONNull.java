@@ -38,6 +38,17 @@ public class JSONNull extends JSONValue<JSONNull> {
 
   public static final String NULL = "null";
 
+  private static final JSONNull INSTANCE = new JSONNull();
+
+  /**
+   * Return a shared {@link net.cabezudo.json.values.JSONNull} object without position. Use it instead of create a new object when the position is not needed.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONNull} object.
+   */
+  public static JSONNull get() {
+    return INSTANCE;
+  }
+
   /**
    * Construct a {@link net.cabezudo.json.values.JSONNull}. The method also takes a {@link Position} in order to save the position in origin and give it when a parse error is
    * thrown.
@@ -76,6 +87,16 @@ public class JSONNull extends JSONValue<JSONNull> {
     return NULL.hashCode();
   }
 
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} value. The shared {@link net.cabezudo.json.values.JSONNull} object is not retained by any value.
+   *
+   * @return the number of bytes retained by {@code this} value.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    return this == INSTANCE ? 0 : super.estimateRetainedBytes();
+  }
+
   /**
    * Compares two {@link net.cabezudo.json.values.JSONNull} objects.
    *
@@ -108,6 +129,16 @@ public class JSONNull extends JSONValue<JSONNull> {
     return this;
   }
 
+  /**
+   * Return whether {@code this} value is the shared object returned by {@link #get()}.
+   *
+   * @return {@code true} if {@code this} value is shared; {@code false} otherwise.
+   */
+  @Override
+  protected boolean isShared() {
+    return this == INSTANCE;
+  }
+
   /**
    * Returns whether the element is a {@link net.cabezudo.json.values.JSONNull} or not.
    *
@@ -23,6 +23,8 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
@@ -30,7 +32,9 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import net.cabezudo.json.NumberWriter;
 import net.cabezudo.json.Position;
+import net.cabezudo.json.exceptions.JSONConversionException;
 
 /**
  * A {@link net.cabezudo.json.values.JSONNumber} is an object extended from {@link net.cabezudo.json.values.JSONValue} object in order to represent a number that can be used to
@@ -46,6 +50,45 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   public static final int DEFAULT_SCALE = 6;
 
+  /**
+   * The name of the system property used to define the lowest integer with a shared {@link net.cabezudo.json.values.JSONNumber} object. The default value is -128.
+   */
+  public static final String CACHE_LOW_PROPERTY = "net.cabezudo.json.values.JSONNumber.cache.low";
+
+  /**
+   * The name of the system property used to define the highest integer with a shared {@link net.cabezudo.json.values.JSONNumber} object. The default value is 1024.
+   */
+  public static final String CACHE_HIGH_PROPERTY = "net.cabezudo.json.values.JSONNumber.cache.high";
+
+  private static final long CACHE_LOW = Integer.getInteger(CACHE_LOW_PROPERTY, -128);
+  private static final long CACHE_HIGH = Math.max(CACHE_LOW - 1, Integer.getInteger(CACHE_HIGH_PROPERTY, 1024));
+  // The objects are created the first time they are required. The fields of a number are final, so a race can only create an extra object.
+  private static final JSONNumber[] CACHE = new JSONNumber[(int) (CACHE_HIGH - CACHE_LOW + 1)];
+
+  // The value is stored using the simplest representation that holds it exactly. The representation of a value is always the same, so two numbers with the same value have the
+  // same representation.
+  private static final byte LONG = 0;
+  private static final byte DOUBLE = 1;
+  private static final byte BIG_DECIMAL = 2;
+
+  private static final double MIN_LONG = -0x1p63;
+  private static final double MAX_LONG = 0x1p63;
+  // A double that is not an integer has six or less decimals only when it is a multiple of 1/64. Under this limit the value times 64 is still an exact double.
+  private static final double MAX_DOUBLE_FRACTION = 0x1p46;
+  private static final double DOUBLE_FRACTION_DENOMINATOR = 64;
+  private static final int MAX_LONG_DIGITS = 18;
+  private static final long[] POWERS_OF_FIVE = {1, 5, 25, 125, 625, 3125, 15625};
+  // The integers that are exact doubles are written without change in the canonical code.
+  private static final long MAX_SAFE_INTEGER = 1L << 53;
+  // A double with six or less decimals under this limit has 15 or less digits. Two decimals with 15 or less digits are never read as the same double, so the exact decimal is
+  // the shortest and it is written without exponent.
+  private static final double MAX_SHORT_FIXED = 1e9;
+  // The closest decimal with a precision is tried first, the other are tried for the doubles with a bigger gap to one side.
+  private static final RoundingMode[] CANONICAL_ROUNDING_MODES = {RoundingMode.HALF_EVEN, RoundingMode.UP, RoundingMode.DOWN};
+
+  private final byte representation;
+  // The long value or the bits of the double value.
+  private final long bits;
   private final BigDecimal value;
 
   /**
@@ -63,7 +106,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Byte} with the number.
    */
   public JSONNumber(Byte value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
   }
 
   /**
@@ -72,7 +115,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Short} with the number.
    */
   public JSONNumber(Short value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
   }
 
   /**
@@ -81,7 +124,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Integer} with the number.
    */
   public JSONNumber(Integer value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
   }
 
   /**
@@ -90,7 +133,19 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Long} with the number.
    */
   public JSONNumber(Long value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.JSONNumber} using a primitive {@code long} value.
+   *
+   * @param value a {@code long} with the number.
+   */
+  public JSONNumber(long value) {
+    super(null);
+    this.representation = LONG;
+    this.bits = value;
+    this.value = null;
   }
 
   /**
@@ -99,7 +154,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Float} with the number.
    */
   public JSONNumber(Float value) {
-    this(new BigDecimal(value));
+    this(value.doubleValue());
   }
 
   /**
@@ -108,7 +163,30 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Double} with the number.
    */
   public JSONNumber(Double value) {
-    this(new BigDecimal(value));
+    this(value.doubleValue());
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.JSONNumber} using a primitive {@code double} value. The value is rounded to {@link #DEFAULT_SCALE} decimals.
+   *
+   * @param value a {@code double} with the number.
+   */
+  public JSONNumber(double value) {
+    super(null);
+    if (value == Math.rint(value) && value > MIN_LONG && value < MAX_LONG) {
+      this.representation = LONG;
+      this.bits = (long) value;
+      this.value = null;
+    } else if (isDoubleFraction(value)) {
+      this.representation = DOUBLE;
+      this.bits = Double.doubleToRawLongBits(value);
+      this.value = null;
+    } else {
+      BigDecimal normalizedValue = normalize(new BigDecimal(value));
+      this.representation = getRepresentation(normalizedValue);
+      this.bits = getBits(normalizedValue, representation);
+      this.value = representation == BIG_DECIMAL ? normalizedValue : null;
+    }
   }
 
   /**
@@ -132,7 +210,10 @@ public class JSONNumber extends JSONValue<JSONNumber> {
     if (value == null) {
       throw new IllegalArgumentException("You can't create an object using null.");
     }
-    this.value = value.round(MathContext.UNLIMITED).setScale(DEFAULT_SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
+    BigDecimal normalizedValue = normalize(value);
+    this.representation = getRepresentation(normalizedValue);
+    this.bits = getBits(normalizedValue, representation);
+    this.value = representation == BIG_DECIMAL ? normalizedValue : null;
   }
 
   /**
@@ -145,7 +226,104 @@ public class JSONNumber extends JSONValue<JSONNumber> {
     if (value == null) {
       throw new IllegalArgumentException("You can't create an object using null.");
     }
-    this.value = new BigDecimal(value).setScale(DEFAULT_SCALE).stripTrailingZeros();
+    if (value.bitLength() < Long.SIZE) {
+      this.representation = LONG;
+      this.bits = value.longValue();
+      this.value = null;
+    } else {
+      this.representation = BIG_DECIMAL;
+      this.bits = 0;
+      this.value = new BigDecimal(value).stripTrailingZeros();
+    }
+  }
+
+  /**
+   * Return a {@link net.cabezudo.json.values.JSONNumber} for the {@code long} value passed. The numbers in the range defined by the {@link #CACHE_LOW_PROPERTY} and
+   * {@link #CACHE_HIGH_PROPERTY} system properties are shared objects, like the {@link net.cabezudo.json.values.JSONBoolean} values.
+   *
+   * @param value a {@code long} with the number.
+   * @return a {@link net.cabezudo.json.values.JSONNumber} object.
+   */
+  public static JSONNumber get(long value) {
+    if (value < CACHE_LOW || value > CACHE_HIGH) {
+      return new JSONNumber(value);
+    }
+    int index = (int) (value - CACHE_LOW);
+    JSONNumber jsonNumber = CACHE[index];
+    if (jsonNumber == null) {
+      jsonNumber = new JSONNumber(value);
+      CACHE[index] = jsonNumber;
+    }
+    return jsonNumber;
+  }
+
+  private static BigDecimal normalize(BigDecimal value) {
+    return value.round(MathContext.UNLIMITED).setScale(DEFAULT_SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
+  }
+
+  private static boolean isDoubleFraction(double value) {
+    double scaledValue = value * DOUBLE_FRACTION_DENOMINATOR;
+    return Math.abs(value) < MAX_DOUBLE_FRACTION && scaledValue == Math.rint(scaledValue);
+  }
+
+  private static byte getRepresentation(BigDecimal normalizedValue) {
+    int scale = normalizedValue.scale();
+    if (scale <= 0) {
+      int digits = normalizedValue.precision() - scale;
+      if (digits <= MAX_LONG_DIGITS || normalizedValue.toBigInteger().bitLength() < Long.SIZE) {
+        return LONG;
+      }
+      return BIG_DECIMAL;
+    }
+    // A value with n decimals is a fraction of a power of two if the unscaled value is a multiple of 5^n.
+    boolean isFraction;
+    if (normalizedValue.precision() <= MAX_LONG_DIGITS) {
+      isFraction = normalizedValue.unscaledValue().longValue() % POWERS_OF_FIVE[scale] == 0;
+    } else {
+      isFraction = normalizedValue.unscaledValue().mod(BigInteger.valueOf(POWERS_OF_FIVE[scale])).signum() == 0;
+    }
+    if (isFraction && Math.abs(normalizedValue.doubleValue()) < MAX_DOUBLE_FRACTION) {
+      return DOUBLE;
+    }
+    return BIG_DECIMAL;
+  }
+
+  private static long getBits(BigDecimal normalizedValue, byte representation) {
+    switch (representation) {
+      case LONG:
+        return normalizedValue.longValue();
+      case DOUBLE:
+        return Double.doubleToRawLongBits(normalizedValue.doubleValue());
+      default:
+        return 0;
+    }
+  }
+
+  boolean isLong() {
+    return representation == LONG;
+  }
+
+  long getLong() {
+    return bits;
+  }
+
+  private double getDouble() {
+    return Double.longBitsToDouble(bits);
+  }
+
+  private long longValueExact() {
+    if (representation == LONG) {
+      return bits;
+    }
+    return toBigDecimal().longValueExact();
+  }
+
+  private long longValueExact(long min, long max) {
+    long l = longValueExact();
+    if (l < min || l > max) {
+      throw new ArithmeticException("Overflow");
+    }
+    return l;
   }
 
   /**
@@ -159,7 +337,17 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public int compareTo(JSONNumber jsonNumber) {
-    return value.compareTo(jsonNumber.value);
+    if (representation == jsonNumber.representation) {
+      switch (representation) {
+        case LONG:
+          return Long.compare(bits, jsonNumber.bits);
+        case DOUBLE:
+          return Double.compare(getDouble(), jsonNumber.getDouble());
+        default:
+          return value.compareTo(jsonNumber.value);
+      }
+    }
+    return toBigDecimal().compareTo(jsonNumber.toBigDecimal());
   }
 
   /**
@@ -180,7 +368,13 @@ public class JSONNumber extends JSONValue<JSONNumber> {
       return false;
     }
     final JSONNumber jsonNumber = (JSONNumber) o;
-    return value.equals(jsonNumber.value);
+    if (representation != jsonNumber.representation) {
+      return false;
+    }
+    if (representation == BIG_DECIMAL) {
+      return value.equals(jsonNumber.value);
+    }
+    return bits == jsonNumber.bits;
   }
 
   /**
@@ -200,7 +394,31 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public int hashCode() {
-    return value.hashCode();
+    return toBigDecimal().hashCode();
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} value. The shared numbers returned by {@link #get(long)} are not retained by any value.
+   *
+   * @return the number of bytes retained by {@code this} value.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    if (representation == LONG && bits >= CACHE_LOW && bits <= CACHE_HIGH && CACHE[(int) (bits - CACHE_LOW)] == this) {
+      return 0;
+    }
+    // representation, bits and value.
+    return RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 1, 9) + RetainedSize.of(value) + RetainedSize.metadataOf(this);
+  }
+
+  /**
+   * Return whether {@code this} value is a shared number returned by {@link #get(long)}.
+   *
+   * @return {@code true} if {@code this} value is shared; {@code false} otherwise.
+   */
+  @Override
+  protected boolean isShared() {
+    return representation == LONG && bits >= CACHE_LOW && bits <= CACHE_HIGH && CACHE[(int) (bits - CACHE_LOW)] == this;
   }
 
   /**
@@ -220,7 +438,14 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public BigDecimal toBigDecimal() {
-    return value;
+    switch (representation) {
+      case LONG:
+        return BigDecimal.valueOf(bits).stripTrailingZeros();
+      case DOUBLE:
+        return new BigDecimal(getDouble()).stripTrailingZeros();
+      default:
+        return value;
+    }
   }
 
   /**
@@ -230,7 +455,10 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public BigInteger toBigInteger() {
-    return value.toBigInteger();
+    if (representation == LONG) {
+      return BigInteger.valueOf(bits);
+    }
+    return toBigDecimal().toBigInteger();
   }
 
   /**
@@ -240,7 +468,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Byte toByte() {
-    return value.byteValueExact();
+    return (byte) longValueExact(Byte.MIN_VALUE, Byte.MAX_VALUE);
   }
 
   /**
@@ -275,7 +503,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Character toCharacter() {
-    Character character = (char) value.intValue();
+    Character character = (char) toBigDecimal().intValue();
     return character;
   }
 
@@ -286,7 +514,14 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Double toDouble() {
-    return value.doubleValue();
+    switch (representation) {
+      case LONG:
+        return (double) bits;
+      case DOUBLE:
+        return getDouble();
+      default:
+        return value.doubleValue();
+    }
   }
 
   /**
@@ -296,7 +531,18 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Float toFloat() {
-    float f = value.floatValue();
+    float f;
+    switch (representation) {
+      case LONG:
+        f = bits;
+        break;
+      case DOUBLE:
+        f = (float) getDouble();
+        break;
+      default:
+        f = value.floatValue();
+        break;
+    }
     return f;
   }
 
@@ -307,7 +553,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public int toInt() {
-    return value.intValueExact();
+    return (int) longValueExact(Integer.MIN_VALUE, Integer.MAX_VALUE);
   }
 
   /**
@@ -317,7 +563,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Integer toInteger() {
-    return value.intValueExact();
+    return (int) longValueExact(Integer.MIN_VALUE, Integer.MAX_VALUE);
   }
 
   /**
@@ -327,10 +573,116 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public String toJSON() {
-    if (value.compareTo(BigDecimal.ZERO) == 0) { // To fix Java 7 trailing bug
+    switch (representation) {
+      case LONG:
+        return Long.toString(bits);
+      case DOUBLE:
+        StringBuilder sb = new StringBuilder(24);
+        try {
+          NumberWriter.writeFixed(getDouble(), sb);
+        } catch (IOException e) {
+          // A StringBuilder never throws an IOException.
+          throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+      default:
+        return value.toPlainString();
+    }
+  }
+
+  /**
+   * Write the JSON code for {@code this} number in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    switch (representation) {
+      case LONG:
+        NumberWriter.writeLong(bits, appendable);
+        break;
+      case DOUBLE:
+        NumberWriter.writeFixed(getDouble(), appendable);
+        break;
+      default:
+        appendable.append(value.toPlainString());
+    }
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} number in the {@code Appendable} passed. The canonical code of a number is the shortest code for the double value that
+   * ECMAScript writes, so the numbers that are not exact doubles lose precision.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   * @throws JSONConversionException if the number is out of the range of the double values.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    if (representation == LONG && bits >= -MAX_SAFE_INTEGER && bits <= MAX_SAFE_INTEGER) {
+      NumberWriter.writeLong(bits, appendable);
+      return;
+    }
+    if (representation == DOUBLE && Math.abs(getDouble()) < MAX_SHORT_FIXED) {
+      NumberWriter.writeFixed(getDouble(), appendable);
+      return;
+    }
+    double d = toDouble();
+    if (Double.isInfinite(d)) {
+      throw new JSONConversionException("The number " + toJSON() + " is out of the range of the double values.");
+    }
+    appendable.append(toCanonicalString(d));
+  }
+
+  // The shortest decimal that is read as the double passed, written using the rules of the ECMAScript Number.prototype.toString() method.
+  static String toCanonicalString(double value) {
+    if (value == 0) {
       return "0";
     }
-    return value.stripTrailingZeros().toPlainString();
+    if (value == Math.rint(value) && Math.abs(value) <= MAX_SAFE_INTEGER) {
+      return Long.toString((long) value);
+    }
+    BigDecimal exact = new BigDecimal(value);
+    BigDecimal shortest = null;
+    for (int precision = 1; shortest == null; precision++) {
+      for (RoundingMode roundingMode : CANONICAL_ROUNDING_MODES) {
+        BigDecimal rounded = exact.round(new MathContext(precision, roundingMode));
+        if (rounded.doubleValue() == value) {
+          shortest = rounded.stripTrailingZeros();
+          break;
+        }
+      }
+    }
+    String digits = shortest.unscaledValue().abs().toString();
+    int k = digits.length();
+    // The value is 0.digits * 10^n.
+    int n = k - shortest.scale();
+    StringBuilder sb = new StringBuilder(k + 8);
+    if (value < 0) {
+      sb.append('-');
+    }
+    if (k <= n && n <= 21) {
+      sb.append(digits);
+      for (int i = k; i < n; i++) {
+        sb.append('0');
+      }
+    } else if (0 < n && n <= 21) {
+      sb.append(digits, 0, n).append('.').append(digits, n, k);
+    } else if (-6 < n && n <= 0) {
+      sb.append("0.");
+      for (int i = n; i < 0; i++) {
+        sb.append('0');
+      }
+      sb.append(digits);
+    } else {
+      sb.append(digits.charAt(0));
+      if (k > 1) {
+        sb.append('.').append(digits, 1, k);
+      }
+      sb.append('e').append(n - 1 < 0 ? '-' : '+').append(Math.abs(n - 1));
+    }
+    return sb.toString();
   }
 
   /**
@@ -341,7 +693,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
   @Override
   public JSONArray toJSONArray() {
     JSONArray jsonArray = new JSONArray();
-    jsonArray.add(value);
+    jsonArray.add(this);
     return jsonArray;
   }
 
@@ -352,7 +704,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public JSONString toJSONString() {
-    JSONString jsonString = new JSONString(value);
+    JSONString jsonString = new JSONString(toBigDecimal());
     return jsonString;
   }
 
@@ -375,7 +727,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Long toLong() {
-    return value.longValueExact();
+    return longValueExact();
   }
 
   /**
@@ -385,7 +737,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Short toShort() {
-    short s = value.shortValueExact();
+    short s = (short) longValueExact(Short.MIN_VALUE, Short.MAX_VALUE);
     return s;
   }
 
@@ -407,13 +759,13 @@ public class JSONNumber extends JSONValue<JSONNumber> {
   @Override
   public String[] toStringArray() {
     String[] s = new String[1];
-    s[0] = value.toString();
+    s[0] = toBigDecimal().toString();
     return s;
   }
 
   @Override
   public void toFormatedString(StringBuilder sb, int indent, boolean inclueFisrt) {
-    sb.append(value.toPlainString());
+    sb.append(toJSON());
   }
 
 }
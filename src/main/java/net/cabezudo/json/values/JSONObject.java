@@ -23,22 +23,31 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.function.Predicate;
+import net.cabezudo.json.Indentation;
 import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONByteWriter;
 import net.cabezudo.json.JSONElement;
 import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.DuplicateKeyException;
+import net.cabezudo.json.exceptions.InvalidOperationException;
 import net.cabezudo.json.exceptions.InvalidReferencedValue;
 import net.cabezudo.json.exceptions.JSONParseException;
 import net.cabezudo.json.exceptions.PropertyIndexNotExistException;
@@ -56,10 +65,26 @@ import net.cabezudo.json.exceptions.PropertyNotExistException;
  */
 public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPair> {
 
-  private final Set<String> keys = new TreeSet<>();
+  /**
+   * A shared empty {@link net.cabezudo.json.values.JSONObject} object. The object can't be modified.
+   */
+  public static final JSONObject EMPTY = new JSONObject().setReadOnly();
 
-  private final List<JSONPair> list = new ArrayList<>();
-  private final Map<String, JSONPair> map = new HashMap<>();
+  // Replaced with presized collections by the builder.
+  private List<JSONPair> list = new ArrayList<>();
+  private Map<String, JSONPair> map = new HashMap<>();
+  // The pairs removed using the name are left in the list until they are more than the half of the list, the map has only the pairs in the object.
+  private int removedCount;
+  // The pairs in the list without the pairs removed, created when they are read and removed when the object changes.
+  private volatile List<JSONPair> livePairs;
+
+  private List<String> sortedKeys;
+  private boolean readOnly;
+  private volatile long contentHash;
+  private volatile long retainedBytes;
+  // The UTF-8 JSON code kept by a caching JSONByteWriter, removed when this object or a child changes, and the containers with a serialized form that include this object.
+  private Object parents;
+  private volatile byte[] serialized;
 
   /**
    * Create a new {@link net.cabezudo.json.values.JSONObject} object using a JSON string.
@@ -142,25 +167,369 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   }
 
   private void copy(JSONObject jsonObject) {
-    for (JSONPair jsonPair : jsonObject.list) {
-      this.add(jsonPair);
+    // Only used by the constructors. The source object doesn't have duplicated keys, so the pairs are copied without check them.
+    list = new ArrayList<>(jsonObject.pairs());
+    map = new HashMap<>(jsonObject.map);
+  }
+
+  private void presize(int expectedSize) {
+    if (list.isEmpty()) {
+      list = new ArrayList<>(expectedSize);
+      map = new HashMap<>(hashMapCapacity(expectedSize));
+    }
+  }
+
+  private static int hashMapCapacity(int expectedSize) {
+    return (int) (expectedSize / 0.75f) + 1;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONObject.Builder} to create an object with the number of properties expected. The storage for the properties is created using the
+   * size expected, so it doesn't grow while the properties are added.
+   *
+   * @param expectedSize the number of properties expected.
+   * @return a new {@link net.cabezudo.json.values.JSONObject.Builder}.
+   */
+  public static Builder builder(int expectedSize) {
+    return builder(null, expectedSize);
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONObject.Builder} to create an object with the number of properties expected.
+   *
+   * @param position the position of the object in the JSON source.
+   * @param expectedSize the number of properties expected.
+   * @return a new {@link net.cabezudo.json.values.JSONObject.Builder}.
+   */
+  public static Builder builder(Position position, int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+    }
+    return new Builder(position, expectedSize);
+  }
+
+  /**
+   * A builder to create a {@link net.cabezudo.json.values.JSONObject} when the number of properties is known.
+   *
+   * <p>
+   * The values that are already {@link net.cabezudo.json.values.JSONValue} objects are used without conversion. If the builder is marked as trusted using {@link #trusted()} the
+   * keys are not checked for every property added, the duplicated keys are searched only once when the object is built.
+   */
+  public static final class Builder {
+
+    private JSONObject jsonObject;
+    private boolean trusted;
+
+    private Builder(Position position, int expectedSize) {
+      jsonObject = new JSONObject(position);
+      jsonObject.presize(expectedSize);
+    }
+
+    /**
+     * Mark the builder as trusted. Use it when the properties come from a source without duplicated keys. A duplicated key is reported when the object is built instead of when
+     * the property is added.
+     *
+     * @return {@code this} builder.
+     */
+    public Builder trusted() {
+      trusted = true;
+      return this;
+    }
+
+    /**
+     * Add a property to the object.
+     *
+     * @param jsonPair the property to add.
+     * @return {@code this} builder.
+     */
+    public Builder add(JSONPair jsonPair) {
+      JSONObject object = getObject();
+      if (trusted) {
+        object.list.add(jsonPair);
+        object.map.put(jsonPair.getKey(), jsonPair);
+      } else {
+        object.privateAdd(jsonPair);
+      }
+      return this;
+    }
+
+    /**
+     * Add a property to the object using a value that is already a {@link net.cabezudo.json.values.JSONValue}.
+     *
+     * @param key the key of the property.
+     * @param value the value of the property.
+     * @return {@code this} builder.
+     */
+    public Builder add(String key, JSONValue value) {
+      return add(new JSONPair(key, value == null ? JSONNull.get() : value));
+    }
+
+    /**
+     * Add a property to the object. The value is converted using {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+     *
+     * @param key the key of the property.
+     * @param object the value of the property.
+     * @return {@code this} builder.
+     */
+    public Builder add(String key, Object object) {
+      return add(new JSONPair(key, object));
+    }
+
+    /**
+     * Return the {@link net.cabezudo.json.values.JSONObject} created. The builder can't be used after this call.
+     *
+     * @return the {@link net.cabezudo.json.values.JSONObject} created.
+     */
+    public JSONObject build() {
+      JSONObject object = getObject();
+      jsonObject = null;
+      if (object.map.size() != object.list.size()) {
+        Map<String, JSONPair> keys = new HashMap<>(hashMapCapacity(object.list.size()));
+        for (JSONPair jsonPair : object.list) {
+          if (keys.put(jsonPair.getKey(), jsonPair) != null) {
+            throw new RuntimeException("The object " + object.toJSON() + " already has the key " + jsonPair.getKey() + ".");
+          }
+        }
+      }
+      return object;
+    }
+
+    private JSONObject getObject() {
+      if (jsonObject == null) {
+        throw new IllegalStateException("The object was already built.");
+      }
+      return jsonObject;
     }
   }
 
+  /**
+   * Return a list with the property names of {@code this} object in natural order.
+   *
+   * @return a new {@code List} with the property names sorted.
+   */
   public List<String> getKeyList() {
-    return new ArrayList<String>(keys);
+    return new ArrayList<>(getSortedKeys());
+  }
+
+  /**
+   * Return an unmodifiable view of the property names of {@code this} object in natural order. The view doesn't copy the names, so the changes in the object are seen in the view.
+   * Use {@link #getKeyList()} to get a copy that doesn't change.
+   *
+   * @return a {@code List} with the property names backed by {@code this} object.
+   */
+  public List<String> keysView() {
+    return new KeysView();
+  }
+
+  /**
+   * Return an unmodifiable view of the property values of {@code this} object in the order they were added. The view doesn't copy the values, so the changes in the object are
+   * seen in the view. Use {@link #toArray()} to get a copy that doesn't change.
+   *
+   * @return a {@code List} with the property values backed by {@code this} object.
+   */
+  public List<JSONValue> valuesView() {
+    return new ValuesView();
+  }
+
+  // The sorted keys are created again after a change, so the view always reads the current ones.
+  private final class KeysView extends AbstractList<String> implements RandomAccess {
+
+    @Override
+    public String get(int index) {
+      return getSortedKeys().get(index);
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+  }
+
+  private final class ValuesView extends AbstractList<JSONValue> implements RandomAccess {
+
+    @Override
+    public JSONValue get(int index) {
+      return pairs().get(index).getValue();
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+  }
+
+  private List<JSONPair> pairs() {
+    if (removedCount == 0) {
+      return list;
+    }
+    List<JSONPair> pairs = livePairs;
+    if (pairs == null) {
+      pairs = new ArrayList<>(map.size());
+      for (JSONPair jsonPair : list) {
+        if (map.get(jsonPair.getKey()) == jsonPair) {
+          pairs.add(jsonPair);
+        }
+      }
+      livePairs = pairs;
+    }
+    return pairs;
+  }
+
+  private void compact() {
+    if (removedCount > 0) {
+      // A new list is used so the iterators over the old list can continue.
+      List<JSONPair> pairs = new ArrayList<>(Math.max(map.size(), 10));
+      for (JSONPair jsonPair : list) {
+        if (map.get(jsonPair.getKey()) == jsonPair) {
+          pairs.add(jsonPair);
+        }
+      }
+      list = pairs;
+      removedCount = 0;
+      livePairs = null;
+    }
+  }
+
+  private List<String> getSortedKeys() {
+    if (sortedKeys == null) {
+      List<String> keyList = new ArrayList<>(map.keySet());
+      Collections.sort(keyList);
+      sortedKeys = keyList;
+    }
+    return sortedKeys;
+  }
+
+  private JSONObject setReadOnly() {
+    readOnly = true;
+    return this;
+  }
+
+  private void checkModifiable() {
+    if (readOnly) {
+      throw new InvalidOperationException("The object " + this.toJSON() + " is read only.");
+    }
+  }
+
+  /**
+   * Returns whether {@code this} {@link net.cabezudo.json.values.JSONObject} can be modified or not.
+   *
+   * @return {@code true} if the properties of {@code this} object can't be added or removed; {@code false} otherwise.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Create a read only copy of {@code this} {@link net.cabezudo.json.values.JSONObject}. The objects and arrays in the values are copied in read only objects and arrays too, so
+   * the copy can't be changed at any level and can be shared between threads without synchronization. The values are read in the same way that in any other object. If
+   * {@code this} object is already read only the method return {@code this} object.
+   *
+   * @return a read only {@link net.cabezudo.json.values.JSONObject}.
+   */
+  public JSONObject freeze() {
+    if (readOnly) {
+      return this;
+    }
+    JSONObject jsonObject = new JSONObject(getPosition());
+    jsonObject.presize(map.size());
+    for (JSONPair jsonPair : pairs()) {
+      JSONValue value = jsonPair.getValue();
+      JSONValue frozenValue = freeze(value);
+      if (frozenValue != value) {
+        jsonPair = new JSONPair(jsonPair.getKey(), frozenValue, jsonPair.getPosition());
+      }
+      jsonObject.privateAdd(jsonPair);
+    }
+    jsonObject.setReferenceFieldName(getReferenceFieldName());
+    // The cache is created before share the object in order to avoid changes in a shared object.
+    jsonObject.getSortedKeys();
+    return jsonObject.setReadOnly();
+  }
+
+  static JSONValue freeze(JSONValue value) {
+    if (value instanceof JSONObject) {
+      return ((JSONObject) value).freeze();
+    }
+    if (value instanceof JSONArray) {
+      return ((JSONArray) value).freeze();
+    }
+    if (value instanceof ConcurrentJSONObject) {
+      return value.toJSONObject().freeze();
+    }
+    if (value instanceof ConcurrentJSONArray) {
+      return value.toJSONArray().freeze();
+    }
+    return value;
+  }
+
+  /**
+   * Create a copy of {@code this} {@link net.cabezudo.json.values.JSONObject} that can be changed. The objects and arrays in the values are copied too, so the copy can be changed
+   * at any level without change {@code this} object. Use it to change a copy of an object created using {@link #freeze()}.
+   *
+   * @return a new {@link net.cabezudo.json.values.JSONObject} that can be changed.
+   */
+  public JSONObject thaw() {
+    JSONObject jsonObject = new JSONObject(getPosition());
+    jsonObject.presize(map.size());
+    for (JSONPair jsonPair : pairs()) {
+      JSONValue value = jsonPair.getValue();
+      JSONValue thawedValue = thaw(value);
+      if (thawedValue != value) {
+        jsonPair = new JSONPair(jsonPair.getKey(), thawedValue, jsonPair.getPosition());
+      }
+      jsonObject.privateAdd(jsonPair);
+    }
+    jsonObject.setReferenceFieldName(getReferenceFieldName());
+    return jsonObject;
+  }
+
+  static JSONValue thaw(JSONValue value) {
+    if (value instanceof JSONObject) {
+      return ((JSONObject) value).thaw();
+    }
+    if (value instanceof JSONArray) {
+      return ((JSONArray) value).thaw();
+    }
+    return value;
   }
 
   private JSONPair privateAdd(JSONPair jsonPair) {
+    checkModifiable();
     String key = jsonPair.getKey();
     if (map.containsKey(key)) {
       throw new RuntimeException("The object " + this.toJSON() + " already has the key " + key + ".");
     }
+    compact();
     list.add(jsonPair);
-    keys.add(key);
+    sortedKeys = null;
+    invalidateSerialized();
     return map.put(key, jsonPair);
   }
 
+  @Override
+  void addParent(JSONValue parent) {
+    // A read only object never changes, so it doesn't need to know its parents.
+    if (!readOnly) {
+      parents = Parents.add(parents, parent);
+    }
+  }
+
+  @Override
+  void invalidateSerialized() {
+    // A parent keeps its serialized form only while the childs keep one, so an object without it doesn't have parents to notify.
+    if (serialized != null) {
+      serialized = null;
+      Object oldParents = parents;
+      parents = null;
+      Parents.invalidate(oldParents);
+    }
+  }
+
+  @Override
+  boolean isSerializedStable() {
+    return serialized != null;
+  }
+
   /**
    * Add a {@link net.cabezudo.json.JSONPair} to the list of properties of {@code this} object.
    *
@@ -178,7 +547,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @param jsonObject the {@link net.cabezudo.json.values.JSONObject} from which to add the properties..
    */
   public void merge(JSONObject jsonObject) {
-    jsonObject.list.forEach((jsonPair) -> {
+    jsonObject.pairs().forEach((jsonPair) -> {
       String key = jsonPair.getKey();
       JSONValue value = this.getNullValue(key);
       if (value == null) {
@@ -201,7 +570,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @throws net.cabezudo.json.exceptions.DuplicateKeyException
    */
   public void merge(JSONObject jsonObject, boolean acceptDuplicates) throws DuplicateKeyException {
-    for (JSONPair jsonPair : jsonObject.list) {
+    for (JSONPair jsonPair : jsonObject.pairs()) {
       String key = jsonPair.getKey();
       JSONValue value = this.getNullValue(key);
       if (value == null) {
@@ -226,7 +595,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @param jsonObject the {@link net.cabezudo.json.values.JSONObject} from which to add the properties..
    */
   public void replace(JSONObject jsonObject) {
-    jsonObject.list.forEach((jsonPair) -> {
+    jsonObject.pairs().forEach((jsonPair) -> {
       String key = jsonPair.getKey();
       JSONValue value = this.getNullValue(key);
       if (value == null) {
@@ -254,7 +623,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   public void replace(JSONObject jsonObject, boolean acceptDuplicates) throws DuplicateKeyException {
     System.out.println("******************************************************************************** jsonObject " + jsonObject.getPosition());
-    for (JSONPair jsonPair : jsonObject.list) {
+    for (JSONPair jsonPair : jsonObject.pairs()) {
       String key = jsonPair.getKey();
       JSONValue value = this.getNullValue(key);
       if (value == null) {
@@ -284,7 +653,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return <tt>true</tt> if this {@link net.cabezudo.json.values.JSONObject} contains the specified element
    */
   public boolean contains(String propertyName) {
-    return this.keys.contains(propertyName);
+    return map.containsKey(propertyName);
   }
 
   /**
@@ -324,8 +693,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
       return c;
     }
 
-    List<String> keyListOfThis = this.getKeyList();
-    List<String> keyListOfObject = jsonObject.getKeyList();
+    List<String> keyListOfThis = this.getSortedKeys();
+    List<String> keyListOfObject = jsonObject.getSortedKeys();
 
     int size = keyListOfThis.size();
 
@@ -356,6 +725,109 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
     return 0;
   }
 
+  /**
+   * Compares {@code this} {@link net.cabezudo.json.values.JSONObject} with the specified object for equality. Two objects are equal if they have the same properties with values
+   * that are equal, in any order. The positions in the source are not compared. If both objects are read only the content hash is compared first, so two objects with a different
+   * content don't need to be walked.
+   *
+   * @param o the object to be compared.
+   * @return {@code true} if the argument is a {@link net.cabezudo.json.values.JSONObject} with the same content, {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    JSONObject jsonObject = (JSONObject) o;
+    if (map.size() != jsonObject.map.size()) {
+      return false;
+    }
+    if (readOnly && jsonObject.readOnly && contentHash() != jsonObject.contentHash()) {
+      return false;
+    }
+    for (JSONPair jsonPair : pairs()) {
+      JSONPair otherPair = jsonObject.map.get(jsonPair.getKey());
+      if (otherPair == null || !jsonPair.getValue().equals(otherPair.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return the hash code for {@code this} {@link net.cabezudo.json.values.JSONObject} using the content hash.
+   *
+   * @return the hash code for {@code this} object.
+   */
+  @Override
+  public int hashCode() {
+    long hash = contentHash();
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Return a 64 bits hash of the content of {@code this} {@link net.cabezudo.json.values.JSONObject}. The order of the properties doesn't change the hash. A read only object
+   * keeps the hash after the first call, any other object calculates the hash every time because the values can be changed.
+   *
+   * @return the content hash for {@code this} object.
+   */
+  @Override
+  public long contentHash() {
+    long hash = contentHash;
+    if (hash != 0) {
+      return hash;
+    }
+    long sum = 0;
+    for (JSONPair jsonPair : pairs()) {
+      sum += pairHash(jsonPair.getKey(), jsonPair.getValue());
+    }
+    hash = containerHash(sum, map.size());
+    if (readOnly) {
+      contentHash = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} {@link net.cabezudo.json.values.JSONObject}, including the storage for the properties, the keys and
+   * the values. A read only object keeps the estimation after the first call.
+   *
+   * @return the number of bytes retained by {@code this} object.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    long size = retainedBytes;
+    if (size == 0) {
+      // list, map, livePairs, sortedKeys, parents, serialized, removedCount, readOnly, contentHash and retainedBytes.
+      size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 6, 21) + RetainedSize.metadataOf(this);
+      size += RetainedSize.ofArrayList(list) + RetainedSize.ofHashMap(map);
+      List<String> keys = sortedKeys;
+      if (keys != null) {
+        size += RetainedSize.ofArrayList(keys);
+      }
+      List<JSONPair> pairs = livePairs;
+      if (pairs != null) {
+        size += RetainedSize.ofArrayList(pairs);
+      }
+      for (JSONPair jsonPair : list) {
+        size += RetainedSize.of(jsonPair);
+      }
+      if (readOnly) {
+        retainedBytes = size;
+      }
+    }
+    // The parents and the serialized form change after the object is created, so they are never kept.
+    size += Parents.estimateRetainedBytes(parents);
+    byte[] bytes = serialized;
+    if (bytes != null) {
+      size += RetainedSize.array(1, bytes.length);
+    }
+    return size;
+  }
+
   /**
    * Remove a property from {@code this} {@link net.cabezudo.json.values.JSONObject} object using the property name.
    *
@@ -363,10 +835,19 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return the {@link net.cabezudo.json.JSONPair} object removed from {@code this} {@link net.cabezudo.json.values.JSONObject} object.
    */
   public JSONPair remove(String propertyName) {
-    JSONPair element = map.get(propertyName);
-    list.remove(element);
-    keys.remove(propertyName);
-    return map.remove(propertyName);
+    checkModifiable();
+    JSONPair element = map.remove(propertyName);
+    if (element != null) {
+      // The pair is left in the list and the list is compacted only when the pairs removed are more than the half, so remove many properties one by one is linear.
+      removedCount++;
+      livePairs = null;
+      if (removedCount > list.size() / 2) {
+        compact();
+      }
+      sortedKeys = null;
+      invalidateSerialized();
+    }
+    return element;
   }
 
   /**
@@ -376,11 +857,81 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return the {@code net.cabezudo.json.JSONPair} object removed from {@code this} {@code net.cabezudo.json.values.JSONObject} object.
    */
   public JSONPair remove(int index) {
-    JSONPair element = list.get(index);
-    list.remove(element);
-    String propertyName = element.getKey();
-    keys.remove(propertyName);
-    return map.remove(propertyName);
+    checkModifiable();
+    compact();
+    JSONPair element = list.remove(index);
+    sortedKeys = null;
+    invalidateSerialized();
+    return map.remove(element.getKey());
+  }
+
+  /**
+   * Remove all the properties of {@code this} {@link net.cabezudo.json.values.JSONObject} object that satisfy the given predicate. The properties are removed using only one pass
+   * over the properties. If the predicate throws an exception {@code this} object is not changed.
+   *
+   * @param filter a predicate which returns {@code true} for the properties to be removed.
+   * @return {@code true} if any property was removed.
+   */
+  public boolean removeIf(Predicate<JSONPair> filter) {
+    checkModifiable();
+    compact();
+    // The predicate is tested for all the pairs before any change, so the object is not changed if the predicate throws an exception.
+    List<JSONPair> pairs = new ArrayList<>(list.size());
+    List<JSONPair> removedPairs = new ArrayList<>();
+    for (JSONPair jsonPair : list) {
+      if (filter.test(jsonPair)) {
+        removedPairs.add(jsonPair);
+      } else {
+        pairs.add(jsonPair);
+      }
+    }
+    if (removedPairs.isEmpty()) {
+      return false;
+    }
+    list = pairs;
+    for (JSONPair jsonPair : removedPairs) {
+      map.remove(jsonPair.getKey());
+    }
+    sortedKeys = null;
+    invalidateSerialized();
+    return true;
+  }
+
+  /**
+   * Remove the properties with the names given from {@code this} {@link net.cabezudo.json.values.JSONObject} object. The names that are not in the object are ignored. The
+   * properties are removed using only one pass over the properties.
+   *
+   * @param propertyNames the names of the properties to remove.
+   * @return {@code true} if any property was removed.
+   */
+  public boolean removeKeys(Collection<String> propertyNames) {
+    checkModifiable();
+    int count = 0;
+    for (String propertyName : propertyNames) {
+      if (map.remove(propertyName) != null) {
+        count++;
+      }
+    }
+    boolean removed = count > 0;
+    if (removed) {
+      // The pairs are taken out of the list using only one pass after all the keys are removed from the map.
+      removedCount += count;
+      compact();
+      sortedKeys = null;
+      invalidateSerialized();
+    }
+    return removed;
+  }
+
+  /**
+   * Remove all the properties of {@code this} {@link net.cabezudo.json.values.JSONObject} object except the properties with the names given.
+   *
+   * @param propertyNames the names of the properties to keep.
+   * @return {@code true} if any property was removed.
+   */
+  public boolean retainKeys(Collection<String> propertyNames) {
+    Collection<String> keys = propertyNames instanceof Set ? propertyNames : new HashSet<>(propertyNames);
+    return removeIf(jsonPair -> !keys.contains(jsonPair.getKey()));
   }
 
   /**
@@ -635,6 +1186,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
     return digNullValue(fullPropertyName, 1);
   }
 
+  @Override
   JSONValue digNullValue(String fullPropertyName, int oldPosition) {
     if (fullPropertyName == null || fullPropertyName.isEmpty()) {
       throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
@@ -655,16 +1207,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
         return null;
       }
       String nextPropertyName = fullPropertyName.substring(newStartPosition);
-
-      if (nextLevelValue.isObject()) {
-        JSONObject nextLevelObject = nextLevelValue.toJSONObject();
-        return nextLevelObject.digNullValue(nextPropertyName, newStartPosition + oldPosition);
-      }
-      if (nextLevelValue.isArray()) {
-        JSONArray nextLevelArray = nextLevelValue.toJSONArray();
-        return nextLevelArray.digNullValue(nextPropertyName, newStartPosition + oldPosition);
-      }
-      throw new RuntimeException("The next level value is not an object nor an array.");
+      return nextLevelValue.digNullValue(nextPropertyName, newStartPosition + oldPosition);
     }
   }
 
@@ -969,7 +1512,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a {@code List<JSONPair>} object with the child's.
    */
   public List<JSONPair> getChilds() {
-    return Collections.unmodifiableList(list);
+    return Collections.unmodifiableList(pairs());
   }
 
   /**
@@ -1394,10 +1937,10 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a {@link net.cabezudo.json.JSONPair}.
    */
   public JSONPair getNullElement(int index) {
-    if (index < 0 || index > list.size()) {
+    if (index < 0 || index > pairs().size()) {
       return null;
     }
-    return list.get(index);
+    return pairs().get(index);
   }
 
   /**
@@ -1620,10 +2163,10 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a {@link net.cabezudo.json.values.JSONValue}.
    */
   public JSONValue getNullValue(int index) {
-    if (index < 0 || index > list.size()) {
+    if (index < 0 || index > pairs().size()) {
       return null;
     }
-    JSONPair jsonPair = list.get(index);
+    JSONPair jsonPair = pairs().get(index);
     return jsonPair.getValue();
   }
 
@@ -1661,7 +2204,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   @Override
   public JSONValue toReferencedElement() {
     String referenceFieldNameToSearch = getReferenceFieldName();
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : pairs()) {
       String keyName = jsonPair.getKey();
       if (keyName.equals(referenceFieldNameToSearch)) {
         JSONValue jsonReferenceValue = jsonPair.getValue();
@@ -1672,8 +2215,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
       }
     }
     JSONObject jsonObject = new JSONObject();
-    if (list.size() > 0) {
-      for (JSONPair jsonPair : list) {
+    if (pairs().size() > 0) {
+      for (JSONPair jsonPair : pairs()) {
         jsonObject.add(jsonPair.toReferencedElement());
       }
     }
@@ -1690,7 +2233,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   public JSONObject toReferencedObject() {
     JSONObject jsonReferencedObject = new JSONObject();
 
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : pairs()) {
       JSONValue jsonValue = jsonPair.getValue();
       JSONElement referencedElement = jsonValue.toReferencedElement();
 
@@ -1788,7 +2331,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return {@code true} if, and only if, {@code this} object has childs, {@code false} otherwise.
    */
   public boolean hasChilds() {
-    return !list.isEmpty();
+    return !map.isEmpty();
   }
 
   /**
@@ -1798,7 +2341,17 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public boolean isEmpty() {
-    return list.isEmpty();
+    return map.isEmpty();
+  }
+
+  /**
+   * Return whether {@code this} object is read only, like the {@link #EMPTY} object or a frozen object, because it can be shared.
+   *
+   * @return {@code true} if {@code this} object is shared; {@code false} otherwise.
+   */
+  @Override
+  protected boolean isShared() {
+    return readOnly;
   }
 
   /**
@@ -1828,7 +2381,36 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public Iterator<JSONPair> iterator() {
-    return list.iterator();
+    if (readOnly) {
+      return Collections.unmodifiableList(pairs()).iterator();
+    }
+    Iterator<JSONPair> iterator = pairs().iterator();
+    return new Iterator<JSONPair>() {
+      private JSONPair last;
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public JSONPair next() {
+        last = iterator.next();
+        return last;
+      }
+
+      @Override
+      public void remove() {
+        if (last == null) {
+          throw new IllegalStateException();
+        }
+        // The pair is removed using the name, so the map, the sorted keys and the serialized form kept are updated too and the pairs iterated don't change.
+        if (map.get(last.getKey()) == last) {
+          JSONObject.this.remove(last.getKey());
+        }
+        last = null;
+      }
+    };
   }
 
   /**
@@ -1839,7 +2421,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return the number of properties in {@code this} {@link net.cabezudo.json.values.JSONObject}.
    */
   public int size() {
-    return list.size();
+    return map.size();
   }
 
   /**
@@ -1850,10 +2432,10 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public JSONValue[] toArray() {
-    JSONValue[] array = new JSONValue[list.size()];
+    JSONValue[] array = new JSONValue[map.size()];
 
     int i = 0;
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : pairs()) {
       JSONValue value = jsonPair.getValue();
       array[i] = value;
       i++;
@@ -1868,16 +2450,93 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public String toJSON() {
-    StringBuilder sb = new StringBuilder("{ ");
-    if (map.size() > 0) {
-      for (JSONPair jsonPair : list) {
-        sb.append(jsonPair.toJSON());
-        sb.append(", ");
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for {@code this} object in the {@code Appendable} passed. The childs are written directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    if (appendable instanceof JSONByteWriter && ((JSONByteWriter) appendable).isCachingContainers()) {
+      writeSerialized((JSONByteWriter) appendable);
+    } else {
+      writeJSON(appendable);
+    }
+  }
+
+  private void writeSerialized(JSONByteWriter writer) throws IOException {
+    byte[] bytes = serialized;
+    if (bytes != null) {
+      writer.writeRaw(bytes, 0, bytes.length);
+      return;
+    }
+    int start = writer.size();
+    writeJSON(writer);
+    List<JSONPair> jsonPairs = pairs();
+    for (JSONPair jsonPair : jsonPairs) {
+      JSONValue value = jsonPair.getValue();
+      if (value != null && !value.isSerializedStable()) {
+        return;
+      }
+    }
+    // The childs notify this object when they change.
+    for (JSONPair jsonPair : jsonPairs) {
+      JSONValue value = jsonPair.getValue();
+      if (value != null) {
+        value.addParent(this);
+      }
+    }
+    serialized = writer.toByteArray(start);
+  }
+
+  private void writeJSON(Appendable appendable) throws IOException {
+    appendable.append("{ ");
+    boolean first = true;
+    for (JSONPair jsonPair : pairs()) {
+      if (!first) {
+        appendable.append(", ");
       }
-      sb = new StringBuilder(sb.substring(0, sb.length() - 2));
+      jsonPair.toJSON(appendable);
+      first = false;
     }
-    sb.append(" }");
-    return sb.toString();
+    appendable.append(" }");
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} object in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} object in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    indentation.writeObject(appendable, pairs(), level);
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} object in the {@code Appendable} passed. The properties are written sorted by the name using the sorted list of names kept by
+   * the object.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    List<String> keys = getSortedKeys();
+    appendable.append('{');
+    for (int i = 0; i < keys.size(); i++) {
+      if (i > 0) {
+        appendable.append(',');
+      }
+      map.get(keys.get(i)).toCanonicalJSON(appendable);
+    }
+    appendable.append('}');
   }
 
   /**
@@ -1888,7 +2547,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   @Override
   public JSONArray toJSONArray() {
     JSONArray jsonArray = new JSONArray();
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : pairs()) {
       jsonArray.add(jsonPair.getValue());
     }
     return jsonArray;
@@ -1900,11 +2559,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a primitive array of {@link net.cabezudo.json.values.JSONPair} with the values of {@code this} object names and properties.
    */
   public JSONPair[] toJSONPairArray() {
-    int size = list.size();
+    int size = pairs().size();
     JSONPair[] jsonPairArray = new JSONPair[size];
 
     for (int i = 0; i < size; i++) {
-      JSONPair jsonPair = list.get(i);
+      JSONPair jsonPair = pairs().get(i);
       jsonPairArray[i] = jsonPair;
     }
     return jsonPairArray;
@@ -1945,14 +2604,6 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
     if (includeFirst) {
       sb.append(JSON.getIndent(indent));
     }
-    sb.append("{\n");
-    list.forEach(entry -> {
-      sb.append(JSON.getIndent(indent + 1));
-      entry.toFormatedString(sb, indent + 1, false);
-      sb.append(",\n");
-    });
-    sb.setLength(Math.max(sb.length() - 2, 0));
-    sb.append("\n");
-    sb.append(JSON.getIndent(indent)).append("}");
+    Indentation.DEFAULT.format(sb, this, indent);
   }
 }
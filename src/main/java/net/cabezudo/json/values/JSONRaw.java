@@ -0,0 +1,218 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONByteWriter;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * A {@link net.cabezudo.json.values.JSONRaw} is a value with JSON code already written, like a fragment of a response kept in a cache.
+ *
+ * <p>
+ * The code is written without changes by {@link #toJSON()}, {@link #toFormatedString()} and the writers, so the fragment is never parsed or encoded again. The code is not
+ * validated, it must be valid JSON code for a single value. The fragment can be created with a {@code String} or with the UTF-8 bytes of the code. The bytes are copied directly
+ * by a {@link net.cabezudo.json.JSONByteWriter} and the text is decoded only if another destination needs it. The fragment is parsed only if it is converted to a JSON
+ * structure using {@link #toJSONTree()}, {@link #toJSONObject()} or {@link #toJSONArray()}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public final class JSONRaw extends JSONValue<JSONRaw> {
+
+  private volatile String text;
+  private volatile byte[] bytes;
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONRaw} with the JSON code passed.
+   *
+   * @param text the JSON code for a value.
+   */
+  public JSONRaw(String text) {
+    super(null);
+    if (text == null) {
+      throw new IllegalArgumentException("The parameter text is null.");
+    }
+    this.text = text;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONRaw} with the UTF-8 bytes of the JSON code passed. The bytes are copied.
+   *
+   * @param bytes the UTF-8 bytes of the JSON code for a value.
+   */
+  public JSONRaw(byte[] bytes) {
+    super(null);
+    if (bytes == null) {
+      throw new IllegalArgumentException("The parameter bytes is null.");
+    }
+    this.bytes = bytes.clone();
+  }
+
+  /**
+   * Return the UTF-8 bytes of the JSON code. The bytes are encoded the first time and kept.
+   *
+   * @return a copy of the bytes of the JSON code.
+   */
+  public byte[] toUTF8Bytes() {
+    return getBytes().clone();
+  }
+
+  private byte[] getBytes() {
+    byte[] b = bytes;
+    if (b == null) {
+      b = text.getBytes(StandardCharsets.UTF_8);
+      bytes = b;
+    }
+    return b;
+  }
+
+  private String getText() {
+    String t = text;
+    if (t == null) {
+      t = new String(bytes, StandardCharsets.UTF_8);
+      text = t;
+    }
+    return t;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof JSONRaw)) {
+      return false;
+    }
+    JSONRaw jsonRaw = (JSONRaw) o;
+    if (text == null && jsonRaw.text == null) {
+      return Arrays.equals(bytes, jsonRaw.bytes);
+    }
+    return getText().equals(jsonRaw.getText());
+  }
+
+  @Override
+  public int hashCode() {
+    return getText().hashCode();
+  }
+
+  @Override
+  public int compareTo(JSONRaw jsonRaw) {
+    return getText().compareTo(jsonRaw.getText());
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} value, including the text and the bytes kept.
+   *
+   * @return the number of bytes retained by {@code this} value.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    long size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 2, 0) + RetainedSize.metadataOf(this);
+    String t = text;
+    if (t != null) {
+      size += RetainedSize.of(t);
+    }
+    byte[] b = bytes;
+    if (b != null) {
+      size += RetainedSize.array(1, b.length);
+    }
+    return size;
+  }
+
+  @Override
+  public JSONRaw toReferencedElement() {
+    return this;
+  }
+
+  /**
+   * Return the JSON code of {@code this} value without changes.
+   *
+   * @return the JSON code.
+   */
+  @Override
+  public String toJSON() {
+    return getText();
+  }
+
+  /**
+   * Write the JSON code of {@code this} value without changes in the {@code Appendable} passed. A {@link net.cabezudo.json.JSONByteWriter} receives the UTF-8 bytes directly.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    if (appendable instanceof JSONByteWriter) {
+      byte[] b = getBytes();
+      ((JSONByteWriter) appendable).writeRaw(b, 0, b.length);
+    } else {
+      appendable.append(getText());
+    }
+  }
+
+  /**
+   * Parse the JSON code and return the JSON structure for it.
+   *
+   * @return a new JSON structure with the value.
+   * @throws JSONConversionException if the JSON code can't be parsed.
+   */
+  @Override
+  public JSONValue toJSONTree() {
+    try {
+      return JSON.parse("", getText());
+    } catch (JSONParseException e) {
+      throw new JSONConversionException("The raw JSON code can't be parsed: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public JSONArray toJSONArray() {
+    return toJSONTree().toJSONArray();
+  }
+
+  @Override
+  public JSONObject toJSONObject() {
+    return toJSONTree().toJSONObject();
+  }
+
+  /**
+   * Return the JSON code of {@code this} value.
+   *
+   * @return the JSON code.
+   */
+  @Override
+  public String toString() {
+    return getText();
+  }
+
+  @Override
+  public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
+    sb.append(getText());
+  }
+}
@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
@@ -33,6 +34,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONEscaper;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.JSONConversionException;
 
@@ -44,8 +46,26 @@ import net.cabezudo.json.exceptions.JSONConversionException;
  */
 public class JSONString extends JSONValue<JSONString> {
 
+  /**
+   * A shared empty {@link net.cabezudo.json.values.JSONString} object.
+   */
+  public static final JSONString EMPTY = new JSONString("");
+
   private final String value;
 
+  /**
+   * Return a {@link net.cabezudo.json.values.JSONString} for the {@code String} passed. For an empty {@code String} the method returns the shared {@link #EMPTY} object.
+   *
+   * @param value A {@code String}
+   * @return a {@link net.cabezudo.json.values.JSONString} object.
+   */
+  public static JSONString get(String value) {
+    if (value.isEmpty()) {
+      return EMPTY;
+    }
+    return new JSONString(value);
+  }
+
   /**
    * Initializes a newly created {@link net.cabezudo.json.values.JSONString} object so that it represents the same string as the argument.
    *
@@ -164,6 +184,29 @@ public class JSONString extends JSONValue<JSONString> {
     return this.value.hashCode();
   }
 
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} value, including the {@code String} used to store the characters.
+   *
+   * @return the number of bytes retained by {@code this} value.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    if (this == EMPTY) {
+      return 0;
+    }
+    return RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 1, 0) + RetainedSize.of(value) + RetainedSize.metadataOf(this);
+  }
+
+  /**
+   * Return whether {@code this} value is the shared {@link #EMPTY} object.
+   *
+   * @return {@code true} if {@code this} value is shared; {@code false} otherwise.
+   */
+  @Override
+  protected boolean isShared() {
+    return this == EMPTY;
+  }
+
   /**
    * Returns if the JSON element is a {@link net.cabezudo.json.values.JSONString}. This object represent a JSON string, so allways return a true.
    *
@@ -335,6 +378,11 @@ public class JSONString extends JSONValue<JSONString> {
     return Integer.valueOf(value);
   }
 
+  // The value as it is saved, with the escape sequences of the source.
+  String getRawValue() {
+    return value;
+  }
+
   /**
    * Return a {@code String} with the value of {@code this} {@link net.cabezudo.json.values.JSONString} object converted to a JSON valid representation. A JSON string is always a
    * string in double quotes. This method is used to create JSON strings.
@@ -346,7 +394,92 @@ public class JSONString extends JSONValue<JSONString> {
     if (value == null) {
       return null;
     }
-    return "\"" + value + "\"";
+    return "\"" + JSONEscaper.escapeRaw(value) + "\"";
+  }
+
+  /**
+   * Write the JSON code for {@code this} string in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    appendable.append('"');
+    JSONEscaper.escapeRaw(value, appendable);
+    appendable.append('"');
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} string in the {@code Appendable} passed. The escape sequences of the source are replaced by the characters and only the
+   * quotes, backslashes and control characters are escaped.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    appendable.append('"');
+    if (value.indexOf('\\') < 0) {
+      JSONEscaper.escape(value, appendable);
+    } else {
+      JSONEscaper.escape(decodeEscapeSequences(value), appendable);
+    }
+    appendable.append('"');
+  }
+
+  // Replace the valid escape sequences by the characters. A backslash that doesn't start a valid sequence is a backslash, as it is read when the JSON code is written.
+  private String decodeEscapeSequences(String value) {
+    StringBuilder sb = new StringBuilder(value.length());
+    int length = value.length();
+    int i = 0;
+    while (i < length) {
+      char c = value.charAt(i);
+      if (c != '\\' || i + 1 >= length) {
+        sb.append(c);
+        i++;
+        continue;
+      }
+      char next = value.charAt(i + 1);
+      switch (next) {
+        case '"':
+        case '\\':
+        case '/':
+          sb.append(next);
+          break;
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 't':
+          sb.append('\t');
+          break;
+        case 'u':
+          if (i + 6 <= length && isHexDigit(value.charAt(i + 2)) && isHexDigit(value.charAt(i + 3)) && isHexDigit(value.charAt(i + 4))
+                  && isHexDigit(value.charAt(i + 5))) {
+            sb.append((char) Integer.parseInt(value.substring(i + 2, i + 6), 16));
+            i += 6;
+            continue;
+          }
+          sb.append(c);
+          i++;
+          continue;
+        default:
+          sb.append(c);
+          i++;
+          continue;
+      }
+      i += 2;
+    }
+    return sb.toString();
   }
 
   /**
@@ -496,6 +629,6 @@ public class JSONString extends JSONValue<JSONString> {
 
   @Override
   public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
-    sb.append("\"").append(value).append("\"");
+    sb.append("\"").append(JSONEscaper.escapeRaw(value)).append("\"");
   }
 }
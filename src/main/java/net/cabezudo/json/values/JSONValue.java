@@ -23,11 +23,15 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Calendar;
 import java.util.List;
 import net.cabezudo.json.JSONElement;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.JSONConversionException;
 
@@ -57,6 +61,167 @@ public abstract class JSONValue<T> extends JSONElement implements Comparable<T>
     return true;
   }
 
+  /**
+   * Dig into {@code this} value to find the value for the rest of a property path. Only the values that have childs can be used to dig, so the default behavior is to return
+   * {@code null}.
+   *
+   * @param fullPropertyName the rest of the path of the property to search.
+   * @param oldPosition the position of the rest of the path in the original path, used for the error messages.
+   * @return the {@link net.cabezudo.json.values.JSONValue} found or {@code null} if the property doesn't exist.
+   */
+  JSONValue digNullValue(String fullPropertyName, int oldPosition) {
+    return null;
+  }
+
+  /**
+   * Register an object or an array with a serialized form that contains {@code this} value. Only the values that can change and keep a serialized form need to know their
+   * parents, the other values ignore the call.
+   *
+   * @param parent the object or array that contains {@code this} value.
+   */
+  void addParent(JSONValue parent) {
+    // Nothing to do here. The value never changes.
+  }
+
+  /**
+   * Remove the serialized form kept by {@code this} value and by the objects and arrays that contain it.
+   */
+  void invalidateSerialized() {
+    // Nothing to do here. The value doesn't have a serialized form.
+  }
+
+  /**
+   * Return if the JSON code of {@code this} value is kept or can't change, so the serialized form of a parent can be kept. The values that can't change return {@code true}.
+   *
+   * @return {@code true} if a parent can keep its serialized form.
+   */
+  boolean isSerializedStable() {
+    return true;
+  }
+
+  /**
+   * Write the canonical JSON code for an object with the pairs passed. The pairs must be sorted by the key.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param sortedPairs the pairs of the object sorted by the key.
+   * @throws IOException if the destination can't be written.
+   */
+  static void writeCanonicalObject(Appendable appendable, Iterable<JSONPair> sortedPairs) throws IOException {
+    appendable.append('{');
+    boolean first = true;
+    for (JSONPair jsonPair : sortedPairs) {
+      if (!first) {
+        appendable.append(',');
+      }
+      jsonPair.toCanonicalJSON(appendable);
+      first = false;
+    }
+    appendable.append('}');
+  }
+
+  /**
+   * Write the canonical JSON code for an array with the elements passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param elements the elements of the array.
+   * @throws IOException if the destination can't be written.
+   */
+  static void writeCanonicalArray(Appendable appendable, Iterable<? extends JSONValue> elements) throws IOException {
+    appendable.append('[');
+    boolean first = true;
+    for (JSONValue jsonValue : elements) {
+      if (!first) {
+        appendable.append(',');
+      }
+      jsonValue.toCanonicalJSON(appendable);
+      first = false;
+    }
+    appendable.append(']');
+  }
+
+  /**
+   * Write the JSON code for {@code this} value in the {@code Appendable} passed. The objects and arrays write their childs directly in the {@code Appendable} without create a
+   * {@code String} for them.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  public void writeTo(Appendable appendable) throws IOException {
+    toJSON(appendable);
+  }
+
+  /**
+   * Write the JSON code for {@code this} value in the {@code OutputStream} passed using the UTF-8 encoding. The stream is not closed.
+   *
+   * @param outputStream the destination for the JSON code.
+   * @throws IOException if the stream can't be written.
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    JSONWriter writer = new JSONWriter(outputStream);
+    writer.write(this);
+    writer.flush();
+  }
+
+  /**
+   * Return a 64 bits hash of the content of {@code this} value. Two values that are equal have the same content hash, so two values with a different content hash are not
+   * equal. The objects and arrays calculate the hash using the content hash of the childs and keep it when they can't be changed.
+   *
+   * @return the content hash for {@code this} value.
+   */
+  public long contentHash() {
+    return mix(hashCode());
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} value, including the childs for the objects and arrays. The objects shared by many values are not
+   * counted. Use it to limit the memory used by a cache of values.
+   *
+   * @return the number of bytes retained by {@code this} value.
+   */
+  public long estimateRetainedBytes() {
+    return RetainedSize.object(RetainedSize.ELEMENT_REFERENCES, 0) + RetainedSize.metadataOf(this);
+  }
+
+  /**
+   * Spread the bits of a hash over the 64 bits using the finalization step of the MurmurHash3 function.
+   *
+   * @param hash the hash to spread.
+   * @return the new hash.
+   */
+  static long mix(long hash) {
+    long h = hash;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * Return the content hash for a pair using the key and the content hash of the value. The hashes of the pairs are added to create the hash of an object, so the order of
+   * the properties doesn't change the hash.
+   *
+   * @param key the key of the pair.
+   * @param value the value of the pair.
+   * @return the content hash for the pair.
+   */
+  static long pairHash(String key, JSONValue value) {
+    return mix(key.hashCode() * 0x9e3779b97f4a7c15L + value.contentHash());
+  }
+
+  /**
+   * Return the final content hash for an object or an array. The value zero is used to mark a hash not calculated yet, so it is never returned.
+   *
+   * @param hash the hash of the elements.
+   * @param size the number of elements.
+   * @return the final hash.
+   */
+  static long containerHash(long hash, int size) {
+    long h = mix(hash + size);
+    return h == 0 ? 1 : h;
+  }
+
   /**
    * This method implements the default behavior to convert a value to an array of {@link net.cabezudo.json.values.JSONValue}. The default behavior is to throw a
    * {@link net.cabezudo.json.exceptions.JSONConversionException} exception. Each class that implements a value may have a different behavior so it could override this method.
@@ -0,0 +1,287 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import net.cabezudo.json.NumberWriter;
+
+/**
+ * A list of numbers used to store the elements of a {@link net.cabezudo.json.values.JSONArray} that only contains numbers.
+ *
+ * <p>
+ * The numbers are saved in a {@code long} array. While all the numbers are integers they are saved as they are, when the first number with decimals is added the values are
+ * changed to a fixed point representation using the {@link net.cabezudo.json.values.JSONNumber#DEFAULT_SCALE} decimals that any {@link net.cabezudo.json.values.JSONNumber}
+ * has, so the numbers are stored without any loss. The {@link net.cabezudo.json.values.JSONNumber} objects are created only when an element is read.
+ *
+ * <p>
+ * A number that can't be saved in this way is not accepted by the {@code tryAdd} and {@code trySet} methods and the owner must change the storage to a general list.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+final class NumericList extends AbstractList<JSONValue> implements RandomAccess {
+
+  private static final int DEFAULT_CAPACITY = 10;
+  private static final int SCALE = JSONNumber.DEFAULT_SCALE;
+  private static final long SCALE_FACTOR = 1_000_000L;
+  private static final double DOUBLE_SCALE_FACTOR = 1_000_000d;
+  // The scaled values must be exact as double in order to have the same conversion than BigDecimal.
+  private static final long MAX_SCALED_VALUE = 1L << 53;
+  private static final long MAX_SCALABLE_VALUE = MAX_SCALED_VALUE / SCALE_FACTOR;
+  private static final int MAX_SCALED_INTEGER_DIGITS = 9;
+
+  private long[] values;
+  private int size;
+  private boolean scaled;
+
+  NumericList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  NumericList(int capacity) {
+    values = new long[capacity];
+  }
+
+  void toJSON(int index, Appendable appendable) throws IOException {
+    if (scaled) {
+      get(index).toJSON(appendable);
+    } else {
+      NumberWriter.writeLong(values[index], appendable);
+    }
+  }
+
+  long estimateRetainedBytes() {
+    // values, size, scaled and modCount.
+    return RetainedSize.object(1, 9) + RetainedSize.array(Long.BYTES, values.length);
+  }
+
+  boolean tryAdd(long value) {
+    if (scaled) {
+      if (!isScalable(value)) {
+        return false;
+      }
+      value *= SCALE_FACTOR;
+    }
+    ensureCapacity(size + 1);
+    values[size++] = value;
+    modCount++;
+    return true;
+  }
+
+  boolean tryAdd(JSONValue jsonValue) {
+    return tryAdd(size, jsonValue);
+  }
+
+  boolean tryAdd(int index, JSONValue jsonValue) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (!prepare(jsonValue)) {
+      return false;
+    }
+    long value = encode(jsonValue);
+    ensureCapacity(size + 1);
+    System.arraycopy(values, index, values, index + 1, size - index);
+    values[index] = value;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  boolean trySet(int index, JSONValue jsonValue) {
+    checkIndex(index);
+    if (!prepare(jsonValue)) {
+      return false;
+    }
+    values[index] = encode(jsonValue);
+    return true;
+  }
+
+  @Override
+  public boolean add(JSONValue jsonValue) {
+    add(size, jsonValue);
+    return true;
+  }
+
+  @Override
+  public void add(int index, JSONValue jsonValue) {
+    if (!tryAdd(index, jsonValue)) {
+      throw new IllegalArgumentException("The value can't be stored in a numeric list.");
+    }
+  }
+
+  @Override
+  public JSONValue get(int index) {
+    checkIndex(index);
+    return decode(values[index]);
+  }
+
+  @Override
+  public JSONValue set(int index, JSONValue jsonValue) {
+    JSONValue oldValue = get(index);
+    if (!trySet(index, jsonValue)) {
+      throw new IllegalArgumentException("The value can't be stored in a numeric list.");
+    }
+    return oldValue;
+  }
+
+  @Override
+  public JSONValue remove(int index) {
+    JSONValue oldValue = get(index);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    modCount++;
+    return oldValue;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  byte[] toByteArray() {
+    byte[] byteArray = new byte[size];
+    for (int i = 0; i < size; i++) {
+      long value = toExactLong(values[i]);
+      if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+        throw new ArithmeticException("Overflow");
+      }
+      byteArray[i] = (byte) value;
+    }
+    return byteArray;
+  }
+
+  int[] toIntArray() {
+    int[] intArray = new int[size];
+    for (int i = 0; i < size; i++) {
+      long value = toExactLong(values[i]);
+      if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+        throw new ArithmeticException("Overflow");
+      }
+      intArray[i] = (int) value;
+    }
+    return intArray;
+  }
+
+  double[] toDoubleArray() {
+    double[] doubleArray = new double[size];
+    if (scaled) {
+      for (int i = 0; i < size; i++) {
+        doubleArray[i] = values[i] / DOUBLE_SCALE_FACTOR;
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        doubleArray[i] = values[i];
+      }
+    }
+    return doubleArray;
+  }
+
+  private long toExactLong(long value) {
+    if (!scaled) {
+      return value;
+    }
+    if (value % SCALE_FACTOR != 0) {
+      throw new ArithmeticException("Rounding necessary");
+    }
+    return value / SCALE_FACTOR;
+  }
+
+  private JSONValue decode(long value) {
+    if (!scaled) {
+      return JSONNumber.get(value);
+    }
+    if (value % SCALE_FACTOR == 0) {
+      return JSONNumber.get(value / SCALE_FACTOR);
+    }
+    return new JSONNumber(BigDecimal.valueOf(value, SCALE));
+  }
+
+  private long encode(JSONValue jsonValue) {
+    JSONNumber jsonNumber = (JSONNumber) jsonValue;
+    if (jsonNumber.isLong()) {
+      return scaled ? jsonNumber.getLong() * SCALE_FACTOR : jsonNumber.getLong();
+    }
+    return jsonNumber.toBigDecimal().movePointRight(SCALE).longValueExact();
+  }
+
+  /**
+   * Check if the value can be stored and change the list to the scaled representation if it is needed.
+   */
+  private boolean prepare(JSONValue jsonValue) {
+    // A number with position is kept as is in order to keep the position for the error messages.
+    if (!(jsonValue instanceof JSONNumber) || jsonValue.getPosition() != null) {
+      return false;
+    }
+    JSONNumber jsonNumber = (JSONNumber) jsonValue;
+    if (jsonNumber.isLong()) {
+      return !scaled || isScalable(jsonNumber.getLong());
+    }
+    BigDecimal value = jsonNumber.toBigDecimal();
+    if (value.scale() <= 0 || value.precision() - value.scale() > MAX_SCALED_INTEGER_DIGITS) {
+      return false;
+    }
+    return scaled || toScaled();
+  }
+
+  private boolean toScaled() {
+    for (int i = 0; i < size; i++) {
+      if (!isScalable(values[i])) {
+        return false;
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      values[i] *= SCALE_FACTOR;
+    }
+    scaled = true;
+    return true;
+  }
+
+  private static boolean isScalable(long value) {
+    return value >= -MAX_SCALABLE_VALUE && value <= MAX_SCALABLE_VALUE;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > values.length) {
+      int newCapacity = Math.max(capacity, values.length + (values.length >> 1));
+      values = Arrays.copyOf(values, newCapacity);
+    }
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keep the objects and arrays with a serialized form that contain an object or an array, in order to remove their serialized form when the child changes.
+ *
+ * <p>
+ * A value can be in many objects and arrays, so the parents are saved using a single reference for the common case of one parent and a list when there are more. The references
+ * are weak, so a child shared by many containers doesn't keep in memory the containers that are not used any more.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+final class Parents {
+
+  private Parents() {
+    // Nothing to do here. Utility class.
+  }
+
+  /**
+   * Add a parent to the parents passed if it is not there.
+   *
+   * @param parents {@code null}, a reference to a single parent or a list of references.
+   * @param parent the parent to add.
+   * @return the new parents.
+   */
+  @SuppressWarnings("unchecked")
+  static Object add(Object parents, JSONValue parent) {
+    if (parents == null) {
+      return new WeakReference<>(parent);
+    }
+    List<WeakReference<JSONValue>> list;
+    if (parents instanceof WeakReference) {
+      JSONValue value = ((WeakReference<JSONValue>) parents).get();
+      if (value == parent) {
+        return parents;
+      }
+      if (value == null) {
+        return new WeakReference<>(parent);
+      }
+      list = new ArrayList<>(2);
+      list.add((WeakReference<JSONValue>) parents);
+    } else {
+      list = (List<WeakReference<JSONValue>>) parents;
+      list.removeIf(reference -> reference.get() == null);
+      for (WeakReference<JSONValue> reference : list) {
+        if (reference.get() == parent) {
+          return list;
+        }
+      }
+    }
+    list.add(new WeakReference<>(parent));
+    return list;
+  }
+
+  /**
+   * Remove the serialized form of all the parents.
+   *
+   * @param parents {@code null}, a reference to a single parent or a list of references.
+   */
+  @SuppressWarnings("unchecked")
+  static void invalidate(Object parents) {
+    if (parents instanceof WeakReference) {
+      invalidate((WeakReference<JSONValue>) parents);
+    } else if (parents != null) {
+      for (WeakReference<JSONValue> reference : (List<WeakReference<JSONValue>>) parents) {
+        invalidate(reference);
+      }
+    }
+  }
+
+  private static void invalidate(WeakReference<JSONValue> reference) {
+    JSONValue parent = reference.get();
+    if (parent != null) {
+      parent.invalidateSerialized();
+    }
+  }
+
+  /**
+   * Return the memory retained by the references to the parents.
+   *
+   * @param parents {@code null}, a reference to a single parent or a list of references.
+   * @return the number of bytes retained.
+   */
+  static long estimateRetainedBytes(Object parents) {
+    if (parents instanceof List) {
+      List<?> list = (List<?>) parents;
+      return RetainedSize.ofArrayList(list) + list.size() * RetainedSize.object(4, 0);
+    }
+    return parents == null ? 0 : RetainedSize.object(4, 0);
+  }
+}
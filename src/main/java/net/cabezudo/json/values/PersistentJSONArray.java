@@ -0,0 +1,481 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.Position;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+
+/**
+ * A {@link net.cabezudo.json.values.PersistentJSONArray} is an immutable version of {@link net.cabezudo.json.values.JSONArray}.
+ *
+ * <p>
+ * The array can't be changed. The methods {@link #with(int, java.lang.Object)}, {@link #withAdded(java.lang.Object)} and {@link #without(int)} return a new array that share
+ * with the original one all the elements that are not changed, so an update costs {@code O(log n)} and any array can be used like a snapshot without copy it.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class PersistentJSONArray extends JSONValue<PersistentJSONArray> implements Iterable<JSONValue> {
+
+  /**
+   * An empty {@link net.cabezudo.json.values.PersistentJSONArray} object.
+   */
+  public static final PersistentJSONArray EMPTY = new PersistentJSONArray(PersistentTree.empty(), null);
+
+  private final PersistentTree<Integer, JSONValue> elements;
+  private volatile long contentHash;
+  private volatile long retainedBytes;
+
+  private PersistentJSONArray(PersistentTree<Integer, JSONValue> elements, Position position) {
+    super(position);
+    this.elements = elements;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.PersistentJSONArray} with the elements of a {@link net.cabezudo.json.values.JSONArray}. The objects and arrays in the elements,
+   * including the concurrent ones, are converted to {@link net.cabezudo.json.values.PersistentJSONObject} and {@link net.cabezudo.json.values.PersistentJSONArray} objects.
+   *
+   * @param jsonArray the {@link net.cabezudo.json.values.JSONArray} from which elements are taken.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the elements of the array.
+   */
+  public static PersistentJSONArray of(JSONArray jsonArray) {
+    List<JSONValue> list = new ArrayList<>(jsonArray.size());
+    for (JSONValue jsonValue : jsonArray) {
+      list.add(PersistentJSONObject.toPersistentValue(jsonValue));
+    }
+    return new PersistentJSONArray(PersistentTree.of(list), jsonArray.getPosition());
+  }
+
+  private static JSONValue toElement(Object object) {
+    return PersistentJSONObject.toPersistentValue(JSON.toJSONTree(object));
+  }
+
+  /**
+   * Return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the element in the position {@code index} replaced. The object passed is converted using
+   * {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param index the position of the element to replace.
+   * @param object the new value for the element.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the element replaced.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public PersistentJSONArray with(int index, Object object) {
+    return new PersistentJSONArray(elements.setAt(index, toElement(object)), getPosition());
+  }
+
+  /**
+   * Return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the element passed added at the end. The object passed is converted using
+   * {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param object the value to add.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the element added.
+   */
+  public PersistentJSONArray withAdded(Object object) {
+    return new PersistentJSONArray(elements.insertAt(elements.size(), toElement(object)), getPosition());
+  }
+
+  /**
+   * Return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the element passed inserted in the position {@code index}. The object passed is converted using
+   * {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param index the position for the new element.
+   * @param object the value to insert.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONArray} with the element inserted.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public PersistentJSONArray withAdded(int index, Object object) {
+    return new PersistentJSONArray(elements.insertAt(index, toElement(object)), getPosition());
+  }
+
+  /**
+   * Return a new {@link net.cabezudo.json.values.PersistentJSONArray} without the element in the position {@code index}.
+   *
+   * @param index the position of the element to remove.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONArray} without the element.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public PersistentJSONArray without(int index) {
+    return new PersistentJSONArray(elements.removeAt(index), getPosition());
+  }
+
+  /**
+   * Compare two arrays using the size.
+   *
+   * @param jsonArray the {@link net.cabezudo.json.values.PersistentJSONArray} to be compared.
+   * @return a value less than {@code 0} if {@code this} array is smaller than the argument, a value greater than {@code 0} if is bigger and {@code 0} if both have the same size.
+   */
+  @Override
+  public int compareTo(PersistentJSONArray jsonArray) {
+    return Integer.compare(size(), jsonArray.size());
+  }
+
+  /**
+   * Compares {@code this} {@link net.cabezudo.json.values.PersistentJSONArray} with the specified object for equality. Two arrays are equal if they have the same elements in the
+   * same order. The content hash is compared first.
+   *
+   * @param o the object to be compared.
+   * @return {@code true} if the argument is a {@link net.cabezudo.json.values.PersistentJSONArray} with the same elements, {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PersistentJSONArray jsonArray = (PersistentJSONArray) o;
+    if (size() != jsonArray.size() || contentHash() != jsonArray.contentHash()) {
+      return false;
+    }
+    Iterator<JSONValue> iterator = jsonArray.iterator();
+    for (JSONValue jsonValue : this) {
+      if (!jsonValue.equals(iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return the hash code for {@code this} {@link net.cabezudo.json.values.PersistentJSONArray} using the content hash.
+   *
+   * @return the hash code for {@code this} array.
+   */
+  @Override
+  public int hashCode() {
+    long hash = contentHash();
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Return a 64 bits hash of the content of {@code this} {@link net.cabezudo.json.values.PersistentJSONArray}. The array can't be changed, so the hash is calculated only once.
+   *
+   * @return the content hash for {@code this} array.
+   */
+  @Override
+  public long contentHash() {
+    long hash = contentHash;
+    if (hash == 0) {
+      long h = 1;
+      for (JSONValue jsonValue : this) {
+        h = h * 0x9e3779b97f4a7c15L + jsonValue.contentHash();
+      }
+      hash = containerHash(h, size());
+      contentHash = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} {@link net.cabezudo.json.values.PersistentJSONArray}. The nodes shared with other versions of the array
+   * are counted as if they were not shared. The array can't be changed, so the estimation is calculated only once.
+   *
+   * @return the number of bytes retained by {@code this} array.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    long size = retainedBytes;
+    if (size == 0) {
+      // elements, contentHash and retainedBytes.
+      size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 1, 16) + RetainedSize.metadataOf(this) + elements.estimateRetainedBytes();
+      for (JSONValue jsonValue : this) {
+        size += jsonValue.estimateRetainedBytes();
+      }
+      retainedBytes = size;
+    }
+    return size;
+  }
+
+  /**
+   * Retrieve the {@link JSONValue} of the element in the position {@code index}.
+   *
+   * @param index the position in the array for the element to retrieve.
+   * @return a {@link JSONValue} or null if the {@code index} is out of range.
+   */
+  public JSONValue getNullValue(int index) {
+    if (index < 0 || index >= elements.size()) {
+      return null;
+    }
+    return elements.getAt(index);
+  }
+
+  /**
+   * Retrieve the {@link JSONValue} of the element in the position {@code index}.
+   *
+   * @param index the position in the array for the element to retrieve.
+   * @return a {@link JSONValue}.
+   * @throws ElementNotExistException if the {@code index} is out of range.
+   */
+  public JSONValue getValue(int index) throws ElementNotExistException {
+    JSONValue jsonValue = getNullValue(index);
+    if (jsonValue == null) {
+      throw new ElementNotExistException("The index " + index + " doesn't have a value.", getPosition());
+    }
+    return jsonValue;
+  }
+
+  /**
+   * Dig into {@code this} array to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: [2].childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value or {@code null} if the property doesn't exist.
+   */
+  public JSONValue digNullValue(String fullPropertyName) {
+    return digNullValue(fullPropertyName, 1);
+  }
+
+  @Override
+  JSONValue digNullValue(String fullPropertyName, int oldPosition) {
+    if (fullPropertyName == null || fullPropertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    int index = JSONArray.getIndexFrom(fullPropertyName, oldPosition);
+    int point = fullPropertyName.indexOf('.');
+    if (point == -1) {
+      return getNullValue(index);
+    }
+    int p = point + 1;
+    if (p >= fullPropertyName.length()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    JSONValue nextLevelValue = getNullValue(index);
+    if (nextLevelValue == null) {
+      return null;
+    }
+    return nextLevelValue.digNullValue(fullPropertyName.substring(p), p + oldPosition);
+  }
+
+  /**
+   * Dig into {@code this} array to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: [2].childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue digValue(String fullPropertyName) throws PropertyNotExistException {
+    JSONValue value = digNullValue(fullPropertyName);
+    if (value == null) {
+      throw new PropertyNotExistException(fullPropertyName, "The property " + fullPropertyName + " doesn't exist.", getPosition());
+    }
+    return value;
+  }
+
+  /**
+   * Tells whether or not {@code this} array has elements.
+   *
+   * @return {@code true} if {@code this} array has elements; {@code false} otherwise.
+   */
+  @Override
+  public Boolean hasElements() {
+    return !elements.isEmpty();
+  }
+
+  /**
+   * Returns whether the element is an array or not.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  public boolean isArray() {
+    return true;
+  }
+
+  /**
+   * Returns whether the array is empty or not.
+   *
+   * @return {@code true} if the array hasn't elements, {@code false} otherwise.
+   */
+  @Override
+  public boolean isEmpty() {
+    return elements.isEmpty();
+  }
+
+  /**
+   * Returns an iterator over the elements in {@code this} array in proper sequence.
+   *
+   * @return an iterator over the elements in {@code this} array.
+   */
+  @Override
+  public Iterator<JSONValue> iterator() {
+    return elements.iterator();
+  }
+
+  /**
+   * Returns the number of elements in {@code this} array.
+   *
+   * @return the number of elements in {@code this} array.
+   */
+  public int size() {
+    return elements.size();
+  }
+
+  /**
+   * Convert the elements of {@code this} array in an array of objects of type {@link JSONValue}.
+   *
+   * @return an array of type {@link JSONValue} with the elements of {@code this} array.
+   */
+  @Override
+  public JSONValue[] toArray() {
+    JSONValue[] array = new JSONValue[elements.size()];
+    int i = 0;
+    for (JSONValue jsonValue : elements) {
+      array[i] = jsonValue;
+      i++;
+    }
+    return array;
+  }
+
+  /**
+   * Create a JSON string representation of {@code this} array including the JSON string representation of the elements.
+   *
+   * @return a {@code String} representation of {@code this} array.
+   */
+  @Override
+  public String toJSON() {
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for {@code this} array in the {@code Appendable} passed. The childs are written directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    appendable.append("[ ");
+    boolean first = true;
+    for (JSONValue jsonValue : elements) {
+      if (!first) {
+        appendable.append(", ");
+      }
+      jsonValue.toJSON(appendable);
+      first = false;
+    }
+    appendable.append(" ]");
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} array in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} array in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    indentation.writeArray(appendable, elements, level);
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} array in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    writeCanonicalArray(appendable, elements);
+  }
+
+  /**
+   * Return {@code true} because {@code this} array can't be changed and the objects and arrays in it are persistent too, the concurrent ones are copied when they are added, so
+   * a container with it can keep its serialized form.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  boolean isSerializedStable() {
+    return true;
+  }
+
+  /**
+   * Create a mutable {@link net.cabezudo.json.values.JSONArray} with a copy of the elements of {@code this} array. The persistent objects and arrays in the elements are converted
+   * too.
+   *
+   * @return a new {@link net.cabezudo.json.values.JSONArray} with the elements of {@code this} array.
+   */
+  @Override
+  public JSONArray toJSONArray() {
+    JSONArray jsonArray = new JSONArray(getPosition());
+    for (JSONValue jsonValue : elements) {
+      jsonArray.add(PersistentJSONObject.toMutableValue(jsonValue));
+    }
+    return jsonArray;
+  }
+
+  /**
+   * Convert the elements of {@code this} array in a {@code List} of {@link JSONValue} objects.
+   *
+   * @return a new {@code List} with the elements of {@code this} array.
+   */
+  @Override
+  public List<JSONValue> toList() {
+    List<JSONValue> list = new ArrayList<>(elements.size());
+    for (JSONValue jsonValue : elements) {
+      list.add(jsonValue);
+    }
+    return list;
+  }
+
+  /**
+   * Create a mutable referenced {@link net.cabezudo.json.values.JSONArray} using {@link net.cabezudo.json.values.JSONArray#toReferencedElement()}.
+   *
+   * @return a referenced {@link net.cabezudo.json.values.JSONArray}.
+   */
+  @Override
+  public JSONArray toReferencedElement() {
+    return toJSONArray().toReferencedElement();
+  }
+
+  /**
+   * Return a {@code String} with a representation of {@code this} array.
+   *
+   * @return a {@code String} with a representation of {@code this} array.
+   */
+  @Override
+  public String toString() {
+    return toJSON();
+  }
+
+  @Override
+  public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
+    if (includeFirst) {
+      sb.append(JSON.getIndent(indent));
+    }
+    Indentation.DEFAULT.format(sb, this, indent);
+  }
+}
@@ -0,0 +1,590 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.Position;
+import net.cabezudo.json.exceptions.PropertyIndexNotExistException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+
+/**
+ * A {@link net.cabezudo.json.values.PersistentJSONObject} is an immutable version of {@link net.cabezudo.json.values.JSONObject}.
+ *
+ * <p>
+ * The object can't be changed. The methods {@link #with(java.lang.String, java.lang.Object)} and {@link #without(java.lang.String)} return a new object that share with the
+ * original one all the properties and values that are not changed, so an update costs {@code O(log n)} and any object can be used like a snapshot without copy it. The properties
+ * keep the insertion order.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class PersistentJSONObject extends JSONValue<PersistentJSONObject> implements Iterable<JSONPair> {
+
+  /**
+   * An empty {@link net.cabezudo.json.values.PersistentJSONObject} object.
+   */
+  public static final PersistentJSONObject EMPTY = new PersistentJSONObject(PersistentTree.empty(), PersistentTree.empty(), 0, null);
+
+  private final PersistentTree<String, Long> keys;
+  private final PersistentTree<Long, JSONPair> pairs;
+  private final long nextSequence;
+  private volatile long contentHash;
+  private volatile long retainedBytes;
+
+  private PersistentJSONObject(PersistentTree<String, Long> keys, PersistentTree<Long, JSONPair> pairs, long nextSequence, Position position) {
+    super(position);
+    this.keys = keys;
+    this.pairs = pairs;
+    this.nextSequence = nextSequence;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.PersistentJSONObject} with the properties of a {@link net.cabezudo.json.values.JSONObject}. The objects and arrays in the values,
+   * including the concurrent ones, are converted to {@link net.cabezudo.json.values.PersistentJSONObject} and {@link net.cabezudo.json.values.PersistentJSONArray} objects.
+   *
+   * @param jsonObject the {@link net.cabezudo.json.values.JSONObject} from which properties are taken.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONObject} with the properties of the object.
+   */
+  public static PersistentJSONObject of(JSONObject jsonObject) {
+    PersistentTree<String, Long> keys = PersistentTree.empty();
+    List<JSONPair> pairList = new ArrayList<>(jsonObject.size());
+    long sequence = 0;
+    for (JSONPair jsonPair : jsonObject) {
+      JSONValue value = jsonPair.getValue();
+      JSONValue persistentValue = toPersistentValue(value);
+      if (persistentValue != value) {
+        jsonPair = new JSONPair(jsonPair.getKey(), persistentValue, jsonPair.getPosition());
+      }
+      keys = keys.put(jsonPair.getKey(), sequence);
+      pairList.add(jsonPair);
+      sequence++;
+    }
+    return new PersistentJSONObject(keys, PersistentTree.ofSequence(pairList), sequence, jsonObject.getPosition());
+  }
+
+  static JSONValue toPersistentValue(JSONValue value) {
+    if (value instanceof JSONObject) {
+      return of((JSONObject) value);
+    }
+    if (value instanceof JSONArray) {
+      return PersistentJSONArray.of((JSONArray) value);
+    }
+    // The concurrent values can be changed by other threads, so a copy is kept instead of the value.
+    if (value instanceof ConcurrentJSONObject) {
+      return of(value.toJSONObject());
+    }
+    if (value instanceof ConcurrentJSONArray) {
+      return PersistentJSONArray.of(value.toJSONArray());
+    }
+    return value;
+  }
+
+  static JSONValue toMutableValue(JSONValue value) {
+    if (value instanceof PersistentJSONObject) {
+      return value.toJSONObject();
+    }
+    if (value instanceof PersistentJSONArray) {
+      return value.toJSONArray();
+    }
+    return value;
+  }
+
+  /**
+   * Return a new {@link net.cabezudo.json.values.PersistentJSONObject} with the property passed. If the property exists the value is replaced and the property keep the position,
+   * otherwise the property is added at the end. The object passed is converted using {@link net.cabezudo.json.JSON#toJSONTree(java.lang.Object)}.
+   *
+   * @param key the name of the property.
+   * @param object the value for the property.
+   * @return a new {@link net.cabezudo.json.values.PersistentJSONObject} with the property.
+   */
+  public PersistentJSONObject with(String key, Object object) {
+    if (key == null) {
+      throw new IllegalArgumentException("The parameter key is null.");
+    }
+    JSONValue value = toPersistentValue(JSON.toJSONTree(object));
+    JSONPair jsonPair = new JSONPair(key, value);
+    Long sequence = keys.get(key);
+    if (sequence == null) {
+      return new PersistentJSONObject(keys.put(key, nextSequence), pairs.put(nextSequence, jsonPair), nextSequence + 1, getPosition());
+    }
+    return new PersistentJSONObject(keys, pairs.put(sequence, jsonPair), nextSequence, getPosition());
+  }
+
+  /**
+   * Return a new {@link net.cabezudo.json.values.PersistentJSONObject} without the property passed. If the property doesn't exist return {@code this} object.
+   *
+   * @param key the name of the property to remove.
+   * @return a {@link net.cabezudo.json.values.PersistentJSONObject} without the property.
+   */
+  public PersistentJSONObject without(String key) {
+    Long sequence = keys.get(key);
+    if (sequence == null) {
+      return this;
+    }
+    return new PersistentJSONObject(keys.remove(key), pairs.remove(sequence), nextSequence, getPosition());
+  }
+
+  /**
+   * Returns <tt>true</tt> if this {@link net.cabezudo.json.values.PersistentJSONObject} contains the specified property.
+   *
+   * @param propertyName whose presence in this {@link net.cabezudo.json.values.PersistentJSONObject} is to be tested
+   * @return <tt>true</tt> if this {@link net.cabezudo.json.values.PersistentJSONObject} contains the specified property
+   */
+  public boolean contains(String propertyName) {
+    return keys.get(propertyName) != null;
+  }
+
+  /**
+   * Compare two {@link net.cabezudo.json.values.PersistentJSONObject} objects using the number of properties first and the property names in natural order if the number of
+   * properties is the same.
+   *
+   * @param jsonObject the {@link net.cabezudo.json.values.PersistentJSONObject} to be compared.
+   * @return the value {@code 0} if both objects have the same property names; a value less than {@code 0} if {@code this} object is less than the argument; and a value greater
+   * than {@code 0} if {@code this} object is greater than the argument.
+   */
+  @Override
+  public int compareTo(PersistentJSONObject jsonObject) {
+    int c = Integer.compare(size(), jsonObject.size());
+    if (c != 0) {
+      return c;
+    }
+    Iterator<String> iterator = jsonObject.keys.keys().iterator();
+    for (String key : keys.keys()) {
+      c = key.compareTo(iterator.next());
+      if (c != 0) {
+        return c;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares {@code this} {@link net.cabezudo.json.values.PersistentJSONObject} with the specified object for equality. Two objects are equal if they have the same properties
+   * with values that are equal, in any order. The content hash is compared first, so two objects with a different content don't need to be walked.
+   *
+   * @param o the object to be compared.
+   * @return {@code true} if the argument is a {@link net.cabezudo.json.values.PersistentJSONObject} with the same content, {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PersistentJSONObject jsonObject = (PersistentJSONObject) o;
+    if (size() != jsonObject.size() || contentHash() != jsonObject.contentHash()) {
+      return false;
+    }
+    for (JSONPair jsonPair : this) {
+      JSONValue value = jsonObject.getNullValue(jsonPair.getKey());
+      if (value == null || !jsonPair.getValue().equals(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return the hash code for {@code this} {@link net.cabezudo.json.values.PersistentJSONObject} using the content hash.
+   *
+   * @return the hash code for {@code this} object.
+   */
+  @Override
+  public int hashCode() {
+    long hash = contentHash();
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Return a 64 bits hash of the content of {@code this} {@link net.cabezudo.json.values.PersistentJSONObject}. The object can't be changed, so the hash is calculated only once.
+   *
+   * @return the content hash for {@code this} object.
+   */
+  @Override
+  public long contentHash() {
+    long hash = contentHash;
+    if (hash == 0) {
+      long sum = 0;
+      for (JSONPair jsonPair : this) {
+        sum += pairHash(jsonPair.getKey(), jsonPair.getValue());
+      }
+      hash = containerHash(sum, size());
+      contentHash = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Return an estimation of the memory, in bytes, retained by {@code this} {@link net.cabezudo.json.values.PersistentJSONObject}. The nodes shared with other versions of the
+   * object are counted as if they were not shared. The object can't be changed, so the estimation is calculated only once.
+   *
+   * @return the number of bytes retained by {@code this} object.
+   */
+  @Override
+  public long estimateRetainedBytes() {
+    long size = retainedBytes;
+    if (size == 0) {
+      // keys, pairs, nextSequence, contentHash and retainedBytes.
+      size = RetainedSize.object(RetainedSize.ELEMENT_REFERENCES + 2, 24) + RetainedSize.metadataOf(this);
+      // The sequence of every property is a Long used as value in the keys tree and as key in the pairs tree.
+      size += keys.estimateRetainedBytes() + pairs.estimateRetainedBytes() + RetainedSize.object(0, Long.BYTES) * size();
+      for (JSONPair jsonPair : this) {
+        size += RetainedSize.of(jsonPair);
+      }
+      retainedBytes = size;
+    }
+    return size;
+  }
+
+  /**
+   * Return the element associated with the property name or {@code null} if the property doesn't exist.
+   *
+   * @param propertyName the name of the property to get.
+   * @return the {@link net.cabezudo.json.JSONPair} with the property name specified or {@code null}.
+   */
+  public JSONPair getNullElement(String propertyName) {
+    Long sequence = keys.get(propertyName);
+    if (sequence == null) {
+      return null;
+    }
+    return pairs.get(sequence);
+  }
+
+  /**
+   * Return the value of the property with the name passed. If the property doesn't exist return {@code null}.
+   *
+   * @param propertyName the name of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONValue} or {@code null}.
+   */
+  public JSONValue getNullValue(String propertyName) {
+    if (propertyName == null || propertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + propertyName + "'.");
+    }
+    JSONPair jsonPair = getNullElement(propertyName);
+    if (jsonPair == null) {
+      return null;
+    }
+    return jsonPair.getValue();
+  }
+
+  /**
+   * Return the value of the property with the index passed. If the property doesn't exist return {@code null}.
+   *
+   * @param index the index of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONValue} or {@code null}.
+   */
+  public JSONValue getNullValue(int index) {
+    if (index < 0 || index >= pairs.size()) {
+      return null;
+    }
+    return pairs.getAt(index).getValue();
+  }
+
+  /**
+   * Return the value of the property with the name passed.
+   *
+   * @param propertyName the name of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONValue}.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue getValue(String propertyName) throws PropertyNotExistException {
+    JSONValue jsonValue = getNullValue(propertyName);
+    if (jsonValue == null) {
+      throw new PropertyNotExistException(propertyName, "The property " + propertyName + " doesn't exist.", getPosition());
+    }
+    return jsonValue;
+  }
+
+  /**
+   * Return the value of the property with the index passed.
+   *
+   * @param index the index of the property to return.
+   * @return a {@link net.cabezudo.json.values.JSONValue}.
+   * @throws PropertyIndexNotExistException if the index is out of range.
+   */
+  public JSONValue getValue(int index) throws PropertyIndexNotExistException {
+    JSONValue jsonValue = getNullValue(index);
+    if (jsonValue == null) {
+      throw new PropertyIndexNotExistException(index, "The position " + index + " don't have a value.", getPosition());
+    }
+    return jsonValue;
+  }
+
+  /**
+   * Dig into {@code this} object to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: person.childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value or {@code null} if the property doesn't exist.
+   */
+  public JSONValue digNullValue(String fullPropertyName) {
+    return digNullValue(fullPropertyName, 1);
+  }
+
+  @Override
+  JSONValue digNullValue(String fullPropertyName, int oldPosition) {
+    if (fullPropertyName == null || fullPropertyName.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    int point = fullPropertyName.indexOf('.');
+    if (point == -1) {
+      return getNullValue(fullPropertyName);
+    }
+    int newStartPosition = point + 1;
+    if (newStartPosition >= fullPropertyName.length()) {
+      throw new IllegalArgumentException("Invalid parameter '" + fullPropertyName + "'.");
+    }
+    JSONValue nextLevelValue = getNullValue(fullPropertyName.substring(0, point));
+    if (nextLevelValue == null) {
+      return null;
+    }
+    return nextLevelValue.digNullValue(fullPropertyName.substring(newStartPosition), newStartPosition + oldPosition);
+  }
+
+  /**
+   * Dig into {@code this} object to find a property. The properties are separated by dots and the position of elements in an array are specified using the index in brackets.
+   * Example: person.childs.[3].name
+   *
+   * @param fullPropertyName The path of the property to search.
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the property value.
+   * @throws PropertyNotExistException if the property doesn't exist.
+   */
+  public JSONValue digValue(String fullPropertyName) throws PropertyNotExistException {
+    JSONValue value = digNullValue(fullPropertyName);
+    if (value == null) {
+      throw new PropertyNotExistException(fullPropertyName, "The property " + fullPropertyName + " doesn't exist.", getPosition());
+    }
+    return value;
+  }
+
+  /**
+   * Returns whether the element is empty or not.
+   *
+   * @return {@code true} if the object hasn't properties, {@code false} otherwise.
+   */
+  @Override
+  public boolean isEmpty() {
+    return pairs.isEmpty();
+  }
+
+  /**
+   * Tells whether or not {@code this} object is a JSON object.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  public boolean isObject() {
+    return true;
+  }
+
+  /**
+   * Tells whether or not {@code this} object is referenceable.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  public boolean isReferenceable() {
+    return true;
+  }
+
+  /**
+   * Returns an iterator over the properties in {@code this} object in insertion order.
+   *
+   * @return an iterator over the properties in {@code this} object.
+   */
+  @Override
+  public Iterator<JSONPair> iterator() {
+    return pairs.iterator();
+  }
+
+  /**
+   * Returns the number of properties in {@code this} {@link net.cabezudo.json.values.PersistentJSONObject}.
+   *
+   * @return the number of properties in {@code this} object.
+   */
+  public int size() {
+    return pairs.size();
+  }
+
+  /**
+   * Convert the properties values of {@code this} object in an array of elements of type {@link net.cabezudo.json.values.JSONValue}.
+   *
+   * @return an array of type {@link net.cabezudo.json.values.JSONValue} with the values of {@code this} object properties.
+   */
+  @Override
+  public JSONValue[] toArray() {
+    JSONValue[] array = new JSONValue[pairs.size()];
+    int i = 0;
+    for (JSONPair jsonPair : pairs) {
+      array[i] = jsonPair.getValue();
+      i++;
+    }
+    return array;
+  }
+
+  /**
+   * Create a JSON string representation of {@code this} object including the JSON string representation of the properties.
+   *
+   * @return a {@code String} representation of {@code this} object.
+   */
+  @Override
+  public String toJSON() {
+    return JSONWriter.toJSON(this);
+  }
+
+  /**
+   * Write the JSON code for {@code this} object in the {@code Appendable} passed. The childs are written directly in the {@code Appendable}.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toJSON(Appendable appendable) throws IOException {
+    appendable.append("{ ");
+    boolean first = true;
+    for (JSONPair jsonPair : pairs) {
+      if (!first) {
+        appendable.append(", ");
+      }
+      jsonPair.toJSON(appendable);
+      first = false;
+    }
+    appendable.append(" }");
+  }
+
+  /**
+   * Write the indented JSON code for {@code this} object in the {@code Appendable} passed.
+   *
+   * @param appendable the destination for the JSON code.
+   * @param indentation the indentation to use.
+   * @param level the level of {@code this} object in the structure.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toFormatedJSON(Appendable appendable, Indentation indentation, int level) throws IOException {
+    indentation.writeObject(appendable, pairs, level);
+  }
+
+  /**
+   * Write the canonical JSON code for {@code this} object in the {@code Appendable} passed. The properties are written sorted by the name using the order of the tree of names.
+   *
+   * @param appendable the destination for the JSON code.
+   * @throws IOException if the destination can't be written.
+   */
+  @Override
+  public void toCanonicalJSON(Appendable appendable) throws IOException {
+    appendable.append('{');
+    boolean first = true;
+    for (Long sequence : keys) {
+      if (!first) {
+        appendable.append(',');
+      }
+      pairs.get(sequence).toCanonicalJSON(appendable);
+      first = false;
+    }
+    appendable.append('}');
+  }
+
+  /**
+   * Return {@code true} because {@code this} object can't be changed and the objects and arrays in it are persistent too, the concurrent ones are copied when they are added, so
+   * a container with it can keep its serialized form.
+   *
+   * @return {@code true}.
+   */
+  @Override
+  boolean isSerializedStable() {
+    return true;
+  }
+
+  /**
+   * Convert the properties values of {@code this} object in a mutable {@link net.cabezudo.json.values.JSONArray} object leaving out the properties names.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONArray} with the values of {@code this} object properties.
+   */
+  @Override
+  public JSONArray toJSONArray() {
+    JSONArray jsonArray = new JSONArray();
+    for (JSONPair jsonPair : pairs) {
+      jsonArray.add(toMutableValue(jsonPair.getValue()));
+    }
+    return jsonArray;
+  }
+
+  /**
+   * Create a mutable {@link net.cabezudo.json.values.JSONObject} with a copy of the properties of {@code this} object. The persistent objects and arrays in the values are
+   * converted too.
+   *
+   * @return a new {@link net.cabezudo.json.values.JSONObject} with the properties of {@code this} object.
+   */
+  @Override
+  public JSONObject toJSONObject() {
+    JSONObject jsonObject = new JSONObject(getPosition());
+    for (JSONPair jsonPair : pairs) {
+      JSONValue value = jsonPair.getValue();
+      JSONValue mutableValue = toMutableValue(value);
+      if (mutableValue != value) {
+        jsonPair = new JSONPair(jsonPair.getKey(), mutableValue, jsonPair.getPosition());
+      }
+      jsonObject.add(jsonPair);
+    }
+    return jsonObject;
+  }
+
+  /**
+   * Create a mutable referenced {@link net.cabezudo.json.values.JSONObject} using {@link net.cabezudo.json.values.JSONObject#toReferencedElement()}.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the referenced element for {@code this} object.
+   */
+  @Override
+  public JSONValue toReferencedElement() {
+    return toJSONObject().toReferencedElement();
+  }
+
+  /**
+   * Return a {@code String} with a representation of {@code this} object.
+   *
+   * @return a {@code String} with a representation of {@code this} object.
+   */
+  @Override
+  public String toString() {
+    return toJSON();
+  }
+
+  @Override
+  public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
+    if (includeFirst) {
+      sb.append(JSON.getIndent(indent));
+    }
+    Indentation.DEFAULT.format(sb, this, indent);
+  }
+}
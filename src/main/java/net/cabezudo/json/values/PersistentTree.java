@@ -0,0 +1,343 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable balanced tree used to store the properties of a {@link net.cabezudo.json.values.PersistentJSONObject} and the elements of a
+ * {@link net.cabezudo.json.values.PersistentJSONArray}.
+ *
+ * <p>
+ * Every change returns a new tree that shares all the nodes out of the changed path with the original one, so an update costs {@code O(log n)} and the old version of the tree
+ * remains valid. The nodes know the size of their subtree so the tree can be used with keys, using the {@code get}, {@code put} and {@code remove} methods, or by position, using
+ * the {@code getAt}, {@code setAt}, {@code insertAt} and {@code removeAt} methods. A tree must be used in only one of the two ways.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @param <K> the type of the keys in the tree
+ * @param <V> the type of the values in the tree
+ * @version 0.9, 10/19/2026
+ */
+final class PersistentTree<K extends Comparable<K>, V> implements Iterable<V> {
+
+  private static final PersistentTree<?, ?> EMPTY = new PersistentTree<>(null);
+
+  private static final long NODE_SIZE = RetainedSize.object(4, 8);
+
+  private final Node<K, V> root;
+
+  private PersistentTree(Node<K, V> root) {
+    this.root = root;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K extends Comparable<K>, V> PersistentTree<K, V> empty() {
+    return (PersistentTree<K, V>) EMPTY;
+  }
+
+  static <K extends Comparable<K>, V> PersistentTree<K, V> of(List<V> values) {
+    Node<K, V> root = build(values, 0, values.size(), false);
+    return new PersistentTree<>(root);
+  }
+
+  static <V> PersistentTree<Long, V> ofSequence(List<V> values) {
+    Node<Long, V> root = build(values, 0, values.size(), true);
+    return new PersistentTree<>(root);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K extends Comparable<K>, V> Node<K, V> build(List<V> values, int from, int to, boolean sequence) {
+    if (from >= to) {
+      return null;
+    }
+    int middle = (from + to) >>> 1;
+    Node<K, V> left = build(values, from, middle, sequence);
+    Node<K, V> right = build(values, middle + 1, to, sequence);
+    K key = sequence ? (K) Long.valueOf(middle) : null;
+    return new Node<>(key, values.get(middle), left, right);
+  }
+
+  int size() {
+    return size(root);
+  }
+
+  long estimateRetainedBytes() {
+    // The tree object and the nodes, with key, value, left, right, height and size. The keys and values are counted by the owner.
+    return RetainedSize.object(1, 0) + NODE_SIZE * size();
+  }
+
+  boolean isEmpty() {
+    return root == null;
+  }
+
+  V get(K key) {
+    Node<K, V> node = root;
+    while (node != null) {
+      int c = key.compareTo(node.key);
+      if (c == 0) {
+        return node.value;
+      }
+      node = c < 0 ? node.left : node.right;
+    }
+    return null;
+  }
+
+  PersistentTree<K, V> put(K key, V value) {
+    return new PersistentTree<>(put(root, key, value));
+  }
+
+  PersistentTree<K, V> remove(K key) {
+    Node<K, V> newRoot = remove(root, key);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentTree<>(newRoot);
+  }
+
+  V getAt(int index) {
+    checkIndex(index, size());
+    Node<K, V> node = root;
+    while (true) {
+      int leftSize = size(node.left);
+      if (index == leftSize) {
+        return node.value;
+      }
+      if (index < leftSize) {
+        node = node.left;
+      } else {
+        index -= leftSize + 1;
+        node = node.right;
+      }
+    }
+  }
+
+  PersistentTree<K, V> setAt(int index, V value) {
+    checkIndex(index, size());
+    return new PersistentTree<>(setAt(root, index, value));
+  }
+
+  PersistentTree<K, V> insertAt(int index, V value) {
+    checkIndex(index, size() + 1);
+    return new PersistentTree<>(insertAt(root, index, value));
+  }
+
+  PersistentTree<K, V> removeAt(int index) {
+    checkIndex(index, size());
+    return new PersistentTree<>(removeAt(root, index));
+  }
+
+  Iterable<K> keys() {
+    return () -> new NodeIterator<K>(root) {
+      @Override
+      @SuppressWarnings("unchecked")
+      K get(Node<?, ?> node) {
+        return (K) node.key;
+      }
+    };
+  }
+
+  @Override
+  public Iterator<V> iterator() {
+    return new NodeIterator<V>(root) {
+      @Override
+      @SuppressWarnings("unchecked")
+      V get(Node<?, ?> node) {
+        return (V) node.value;
+      }
+    };
+  }
+
+  private static void checkIndex(int index, int limit) {
+    if (index < 0 || index >= limit) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + limit);
+    }
+  }
+
+  private static int size(Node<?, ?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static int height(Node<?, ?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+    if (node == null) {
+      return new Node<>(key, value, null, null);
+    }
+    int c = key.compareTo(node.key);
+    if (c == 0) {
+      return new Node<>(key, value, node.left, node.right);
+    }
+    if (c < 0) {
+      return balance(node.key, node.value, put(node.left, key, value), node.right);
+    }
+    return balance(node.key, node.value, node.left, put(node.right, key, value));
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int c = key.compareTo(node.key);
+    if (c == 0) {
+      return join(node.left, node.right);
+    }
+    if (c < 0) {
+      Node<K, V> left = remove(node.left, key);
+      return left == node.left ? node : balance(node.key, node.value, left, node.right);
+    }
+    Node<K, V> right = remove(node.right, key);
+    return right == node.right ? node : balance(node.key, node.value, node.left, right);
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> setAt(Node<K, V> node, int index, V value) {
+    int leftSize = size(node.left);
+    if (index == leftSize) {
+      return new Node<>(node.key, value, node.left, node.right);
+    }
+    if (index < leftSize) {
+      return new Node<>(node.key, node.value, setAt(node.left, index, value), node.right);
+    }
+    return new Node<>(node.key, node.value, node.left, setAt(node.right, index - leftSize - 1, value));
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> insertAt(Node<K, V> node, int index, V value) {
+    if (node == null) {
+      return new Node<>(null, value, null, null);
+    }
+    int leftSize = size(node.left);
+    if (index <= leftSize) {
+      return balance(node.key, node.value, insertAt(node.left, index, value), node.right);
+    }
+    return balance(node.key, node.value, node.left, insertAt(node.right, index - leftSize - 1, value));
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> removeAt(Node<K, V> node, int index) {
+    int leftSize = size(node.left);
+    if (index == leftSize) {
+      return join(node.left, node.right);
+    }
+    if (index < leftSize) {
+      return balance(node.key, node.value, removeAt(node.left, index), node.right);
+    }
+    return balance(node.key, node.value, node.left, removeAt(node.right, index - leftSize - 1));
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> join(Node<K, V> left, Node<K, V> right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    Node<K, V> first = right;
+    while (first.left != null) {
+      first = first.left;
+    }
+    return balance(first.key, first.value, left, removeFirst(right));
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> removeFirst(Node<K, V> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    return balance(node.key, node.value, removeFirst(node.left), node.right);
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+    int difference = height(left) - height(right);
+    if (difference > 1) {
+      if (height(left.left) >= height(left.right)) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+      }
+      Node<K, V> pivot = left.right;
+      return new Node<>(pivot.key, pivot.value, new Node<>(left.key, left.value, left.left, pivot.left), new Node<>(key, value, pivot.right, right));
+    }
+    if (difference < -1) {
+      if (height(right.right) >= height(right.left)) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+      }
+      Node<K, V> pivot = right.left;
+      return new Node<>(pivot.key, pivot.value, new Node<>(key, value, left, pivot.left), new Node<>(right.key, right.value, pivot.right, right.right));
+    }
+    return new Node<>(key, value, left, right);
+  }
+
+  private static final class Node<K, V> {
+
+    private final K key;
+    private final V value;
+    private final Node<K, V> left;
+    private final Node<K, V> right;
+    private final int height;
+    private final int size;
+
+    private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.key = key;
+      this.value = value;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.size = size(left) + size(right) + 1;
+    }
+  }
+
+  private abstract static class NodeIterator<E> implements Iterator<E> {
+
+    private final Deque<Node<?, ?>> stack = new ArrayDeque<>();
+
+    private NodeIterator(Node<?, ?> root) {
+      pushLeft(root);
+    }
+
+    private void pushLeft(Node<?, ?> node) {
+      while (node != null) {
+        stack.push(node);
+        node = node.left;
+      }
+    }
+
+    abstract E get(Node<?, ?> node);
+
+    @Override
+    public boolean hasNext() {
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public E next() {
+      if (stack.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      Node<?, ?> node = stack.pop();
+      pushLeft(node.right);
+      return get(node);
+    }
+  }
+}
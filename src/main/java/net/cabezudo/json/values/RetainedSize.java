@@ -0,0 +1,144 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.values;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import net.cabezudo.json.JSONElement;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.Position;
+
+/**
+ * The size models used to estimate the memory retained by the JSON values.
+ *
+ * <p>
+ * The sizes are calculated for a 64 bits virtual machine using compressed references: an object header of 12 bytes, an array header of 16 bytes, references of 4 bytes and
+ * objects aligned to 8 bytes. The sizes are an estimation, the real size depends on the virtual machine and the options used to run it. The objects shared by many values, like
+ * the origin of the positions, the default reference field name and the shared {@link net.cabezudo.json.values.JSONNull}, {@link net.cabezudo.json.values.JSONBoolean},
+ * {@link net.cabezudo.json.values.JSONString} and {@link net.cabezudo.json.values.JSONNumber} objects, are not retained by a value and are not counted.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+final class RetainedSize {
+
+  static final int OBJECT_HEADER = 12;
+  static final int ARRAY_HEADER = 16;
+  static final int REFERENCE = 4;
+  // The position, or the position with the reference field name, from JSONElement.
+  static final int ELEMENT_REFERENCES = 1;
+
+  private static final int ALIGNMENT = 8;
+  // value, hash, coder and hashIsZero.
+  private static final long STRING = object(1, 6);
+  // intVal, scale, precision, stringCache and intCompact.
+  private static final long BIG_DECIMAL = object(2, 16);
+  // signum, mag and four cached int values.
+  private static final long BIG_INTEGER = object(1, 20);
+  // position and referenceFieldName, used only when the reference field name is not the default one.
+  private static final long ELEMENT_METADATA = object(2, 0);
+  // origin, line and row. The origin is shared by all the positions of a source.
+  private static final long POSITION = object(1, 8);
+  // elementData, size and modCount.
+  private static final long ARRAY_LIST = object(1, 8);
+  // table, entrySet, keySet, values, size, modCount, threshold and loadFactor.
+  private static final long HASH_MAP = object(4, 16);
+  // hash, key, value and next.
+  private static final long HASH_MAP_NODE = object(3, 4);
+  // key and value from JSONPair.
+  private static final long JSON_PAIR = object(ELEMENT_REFERENCES + 2, 0);
+
+  private RetainedSize() {
+    // Nothing to do here. Utility class.
+  }
+
+  static long align(long size) {
+    return (size + ALIGNMENT - 1) & -ALIGNMENT;
+  }
+
+  static long object(int references, int primitiveBytes) {
+    return align(OBJECT_HEADER + (long) references * REFERENCE + primitiveBytes);
+  }
+
+  static long array(int elementSize, int length) {
+    return align(ARRAY_HEADER + (long) elementSize * length);
+  }
+
+  static long of(String string) {
+    if (string == null) {
+      return 0;
+    }
+    int length = string.length();
+    for (int i = 0; i < length; i++) {
+      if (string.charAt(i) > 0xFF) {
+        return STRING + array(2, length);
+      }
+    }
+    return STRING + array(1, length);
+  }
+
+  static long of(BigDecimal value) {
+    if (value == null) {
+      return 0;
+    }
+    long size = BIG_DECIMAL;
+    BigInteger unscaledValue = value.unscaledValue();
+    if (unscaledValue.bitLength() > 63) {
+      size += BIG_INTEGER + array(4, (unscaledValue.bitLength() + 31) / 32);
+    }
+    return size;
+  }
+
+  static long of(Position position) {
+    return position == null ? 0 : POSITION;
+  }
+
+  static long ofArrayList(List<?> list) {
+    return ARRAY_LIST + array(REFERENCE, list.size());
+  }
+
+  static long ofHashMap(Map<?, ?> map) {
+    int size = map.size();
+    int tableLength = 1;
+    while (tableLength * 3 < size * 4) {
+      tableLength <<= 1;
+    }
+    return HASH_MAP + (size == 0 ? 0 : array(REFERENCE, Math.max(16, tableLength)) + HASH_MAP_NODE * size);
+  }
+
+  static long of(JSONPair jsonPair) {
+    return JSON_PAIR + metadataOf(jsonPair) + of(jsonPair.getKey()) + jsonPair.getValue().estimateRetainedBytes();
+  }
+
+  static long metadataOf(JSONElement element) {
+    long size = of(element.getPosition());
+    // The default name is a shared constant.
+    if (!JSONElement.DEFAULT_REFERENCE_FIELD_NAME.equals(element.getReferenceFieldName())) {
+      size += ELEMENT_METADATA + of(element.getReferenceFieldName());
+    }
+    return size;
+  }
+}
@@ -2,11 +2,16 @@ package net.cabezudo.json;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
+import net.cabezudo.json.exceptions.JSONParseException;
 import net.cabezudo.json.objects.Data;
 import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import org.junit.Test;
@@ -99,4 +104,66 @@ public class FormatterTest {
 
     assertEquals(expectedString, indentString);
   }
+
+  @Test
+  public void testReformat() throws IOException {
+    String json = " {\"name\" :\"Este  ban, {[\\\" \", \"list\":[1, 2.5,\n true ] , \"empty\": { }, \"none\": [] } ";
+
+    StringWriter writer = new StringWriter();
+    Formatter.reformat(new StringReader(json), writer, null);
+    assertEquals("{\"name\":\"Este  ban, {[\\\" \",\"list\":[1,2.5,true],\"empty\":{},\"none\":[]}", writer.toString());
+
+    writer = new StringWriter();
+    Formatter.reformat(new StringReader(json), writer, new Indentation(2));
+    String expected = "{\n"
+            + "  \"name\": \"Este  ban, {[\\\" \",\n"
+            + "  \"list\": [\n"
+            + "    1,\n"
+            + "    2.5,\n"
+            + "    true\n"
+            + "  ],\n"
+            + "  \"empty\": {  },\n"
+            + "  \"none\": [  ]\n"
+            + "}";
+    assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  public void testReformatManyValues() throws IOException {
+    String json = "{\"a\":1}\n{ \"b\": [ 2 ] }\r\n[]  \"text\" 10\ntrue\n";
+
+    StringWriter writer = new StringWriter();
+    Formatter.reformat(new StringReader(json), writer, null);
+    assertEquals("{\"a\":1}\n{\"b\":[2]}\n[]\n\"text\"\n10\ntrue", writer.toString());
+
+    writer = new StringWriter();
+    Formatter.reformat(new StringReader(json), writer, new Indentation(2));
+    String expected = "{\n"
+            + "  \"a\": 1\n"
+            + "}\n"
+            + "{\n"
+            + "  \"b\": [\n"
+            + "    2\n"
+            + "  ]\n"
+            + "}\n"
+            + "[  ]\n"
+            + "\"text\"\n"
+            + "10\n"
+            + "true";
+    assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  public void testReformatLargeInput() throws IOException, JSONParseException {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < 5000; i++) {
+      sb.append(i == 0 ? "" : ", ").append("{ \"id\": ").append(i).append(", \"name\": \"n").append(i).append("\" }");
+    }
+    sb.append("]");
+    JSONValue jsonValue = JSON.parse("", sb.toString());
+
+    StringWriter writer = new StringWriter();
+    Formatter.reformat(new StringReader(sb.toString()), writer, Indentation.DEFAULT);
+    assertEquals(jsonValue.toFormatedString(), writer.toString());
+  }
 }
@@ -0,0 +1,39 @@
+package net.cabezudo.json;
+
+import net.cabezudo.json.values.JSONArray;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class IndentationTest {
+
+  @Test
+  public void testGet() {
+    Indentation indentation = new Indentation(3);
+    assertEquals(3, indentation.getWidth());
+    assertEquals("", indentation.get(0));
+    assertEquals("      ", indentation.get(2));
+    assertEquals(3 * 40, indentation.get(40).length());
+    assertSame(indentation.get(40), indentation.get(40));
+    assertSame(Indentation.DEFAULT.get(5), JSON.getIndent(5));
+  }
+
+  @Test
+  public void testFormat() {
+    JSONArray jsonArray = new JSONArray();
+    jsonArray.add(new JSONArray());
+    jsonArray.add(1);
+    StringBuilder sb = new StringBuilder();
+    new Indentation(1).format(sb, jsonArray, 0);
+    assertEquals("[\n [  ],\n 1\n]", sb.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeWidth() {
+    new Indentation(-1);
+  }
+}
@@ -0,0 +1,76 @@
+package net.cabezudo.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONString;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONByteWriterTest {
+
+  private static final String DATA = "{ \"name\": \"Esteban\", \"ñ\": \"año €\", \"numbers\": [ 1, 2.5, -3 ], \"empty\": {  }, \"list\": [  ], \"data\": { \"active\": true, \"none\": null } }";
+
+  @Test
+  public void testToBytes() throws JSONParseException {
+    JSONValue jsonValue = JSON.parse("", DATA);
+    assertArrayEquals(DATA.getBytes(StandardCharsets.UTF_8), JSONByteWriter.toBytes(jsonValue));
+  }
+
+  @Test
+  public void testRepeatedKeys() throws JSONParseException {
+    JSONArray jsonArray = new JSONArray();
+    for (int i = 0; i < 100; i++) {
+      JSONObject jsonObject = new JSONObject();
+      jsonObject.add(new JSONPair("id", i));
+      jsonObject.add(new JSONPair("name", "n" + i));
+      jsonArray.add(jsonObject);
+    }
+    JSONByteWriter writer = new JSONByteWriter(16);
+    writer.write(jsonArray);
+    assertEquals(jsonArray.toJSON(), new String(writer.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testSupplementaryCharacters() {
+    JSONString jsonString = new JSONString("a😀b");
+    JSONByteWriter writer = new JSONByteWriter();
+    writer.write(jsonString);
+    assertArrayEquals(jsonString.toJSON().getBytes(StandardCharsets.UTF_8), writer.toByteArray());
+
+    writer.reset();
+    writer.append('\uD83D').append('\uDE00');
+    assertArrayEquals("😀".getBytes(StandardCharsets.UTF_8), writer.toByteArray());
+
+    writer.reset();
+    writer.append("x\uD83Dy");
+    assertEquals("x?y", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testResetAndReuse() throws JSONParseException, IOException {
+    JSONByteWriter writer = new JSONByteWriter();
+    writer.write(JSON.parse("", "{ \"a\": 1 }"));
+    writer.reset();
+    writer.write(JSON.parse("", "[ 1, 2 ]"));
+    assertEquals(8, writer.size());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writer.writeTo(outputStream);
+    assertEquals("[ 1, 2 ]", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+
+    ByteBuffer byteBuffer = writer.toByteBuffer();
+    assertEquals(8, byteBuffer.remaining());
+    assertEquals('[', byteBuffer.get());
+  }
+}
@@ -0,0 +1,58 @@
+package net.cabezudo.json;
+
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONEscaperTest {
+
+  @Test
+  public void testNoEscape() {
+    String value = "Esteban Cabezudo ñ \\n \\\" \\u00e1";
+    assertFalse(JSONEscaper.needsEscape(value, true));
+    assertSame(value, JSONEscaper.escapeRaw(value));
+    assertTrue(JSONEscaper.needsEscape(value, false));
+    assertSame("Esteban", JSONEscaper.escape("Esteban"));
+  }
+
+  @Test
+  public void testEscape() {
+    assertEquals("a\\\"b", JSONEscaper.escape("a\"b"));
+    assertEquals("a\\nb\\tc\\u0001", JSONEscaper.escape("a\nb\tc\u0001"));
+    assertEquals("C:\\\\new", JSONEscaper.escape("C:\\new"));
+  }
+
+  @Test
+  public void testEscapeRaw() {
+    assertEquals("a\\\"b", JSONEscaper.escapeRaw("a\"b"));
+    assertEquals("a\\nb\\tc\\u0001", JSONEscaper.escapeRaw("a\nb\tc\u0001"));
+    assertEquals("C:\\new", JSONEscaper.escapeRaw("C:\\new"));
+    assertEquals("C:\\\\x", JSONEscaper.escapeRaw("C:\\x"));
+    assertEquals("end\\\\", JSONEscaper.escapeRaw("end\\"));
+    assertEquals("\\\\u12", JSONEscaper.escapeRaw("\\u12"));
+  }
+
+  @Test
+  public void testEscapedOutput() throws JSONParseException, PropertyNotExistException {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("say \"hi\"", new JSONString("line\nnext")));
+    String json = jsonObject.toJSON();
+    assertEquals("{ \"say \\\"hi\\\"\": \"line\\nnext\" }", json);
+    assertEquals(json, new String(JSONByteWriter.toBytes(jsonObject), StandardCharsets.UTF_8));
+
+    JSONObject parsed = JSON.parse("", json).toJSONObject();
+    assertEquals(json, parsed.toJSON());
+    assertEquals("line\nnext", parsed.getString("say \"hi\""));
+  }
+}
@@ -0,0 +1,75 @@
+package net.cabezudo.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.cabezudo.json.exceptions.InvalidOperationException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONNumber;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONSnapshotTest {
+
+  @Test
+  public void testGetAndSet() throws JSONParseException {
+    JSONObject jsonObject = JSON.parse("", "{ \"name\": \"Esteban\" }").toJSONObject();
+    JSONSnapshot snapshot = new JSONSnapshot(jsonObject);
+    JSONObject first = snapshot.get();
+    assertTrue(first.isReadOnly());
+    try {
+      first.add(new JSONPair("id", 1));
+      fail("The snapshot can't be modified.");
+    } catch (InvalidOperationException e) {
+      assertEquals("{ \"name\": \"Esteban\" }", first.toJSON());
+    }
+    jsonObject.add(new JSONPair("id", 1));
+    assertEquals("{ \"name\": \"Esteban\" }", snapshot.get().toJSON());
+    snapshot.set(jsonObject);
+    assertEquals("{ \"name\": \"Esteban\", \"id\": 1 }", snapshot.get().toJSON());
+    assertEquals("{ \"name\": \"Esteban\" }", first.toJSON());
+  }
+
+  @Test
+  public void testUpdate() throws JSONParseException {
+    JSONSnapshot snapshot = new JSONSnapshot(JSON.parse("", "{ \"name\": \"Esteban\" }").toJSONObject());
+    JSONObject old = snapshot.get();
+    JSONObject updated = snapshot.update(jsonObject -> jsonObject.add(new JSONPair("id", 1)));
+    assertTrue(updated == snapshot.get());
+    assertTrue(updated.isReadOnly());
+    assertEquals("{ \"name\": \"Esteban\", \"id\": 1 }", updated.toJSON());
+    assertEquals("{ \"name\": \"Esteban\" }", old.toJSON());
+  }
+
+  @Test
+  public void testConcurrentUpdate() throws InterruptedException, PropertyNotExistException {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("count", 0));
+    JSONSnapshot snapshot = new JSONSnapshot(jsonObject);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread thread = new Thread(() -> {
+        for (int j = 0; j < 250; j++) {
+          snapshot.update(copy -> {
+            int count = copy.getNullInteger("count");
+            copy.remove("count");
+            copy.add(new JSONPair("count", new JSONNumber(count + 1)));
+          });
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(1000, (int) snapshot.get().getInteger("count"));
+  }
+}
@@ -20,6 +20,7 @@ import net.cabezudo.json.exceptions.JSONParseException;
 import net.cabezudo.json.exceptions.PropertyNotExistException;
 import net.cabezudo.json.exceptions.UnexpectedElementException;
 import net.cabezudo.json.objects.Book;
+import net.cabezudo.json.objects.Shelf;
 import net.cabezudo.json.objects.Types;
 import net.cabezudo.json.values.JSONArray;
 import net.cabezudo.json.values.JSONNull;
@@ -362,4 +363,24 @@ public class JSONTest {
       fail(e.getMessage());
     }
   }
+
+  @Test
+  public void testWriteObject() throws IOException {
+    Types types = new Types();
+    StringBuilder sb = new StringBuilder();
+    JSON.write(types, sb);
+    assertEquals(JSON.toJSONTree(types).toJSON(), sb.toString());
+
+    List<Book> books = Arrays.asList(new Book(1, "Evolution"), new Book(2, "The \"double\""));
+    Shelf full = new Shelf("A", "new", 3, new int[]{1, 2}, books);
+    Shelf empty = new Shelf("B", null, 0, new int[0], new ArrayList<>());
+    for (Object object : Arrays.asList(full, empty, books, new Object[]{full, null, "text", 5})) {
+      sb = new StringBuilder();
+      JSON.write(object, sb);
+      assertEquals(JSON.toJSONTree(object).toJSON(), sb.toString());
+    }
+    sb = new StringBuilder();
+    JSON.write(empty, sb);
+    assertEquals("{ \"label\": \"B\", \"books\": [  ] }", sb.toString());
+  }
 }
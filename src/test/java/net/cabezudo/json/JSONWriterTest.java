@@ -0,0 +1,101 @@
+package net.cabezudo.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.ConcurrentJSONObject;
+import net.cabezudo.json.values.JSONDocument;
+import net.cabezudo.json.values.JSONRaw;
+import net.cabezudo.json.values.JSONValue;
+import net.cabezudo.json.values.PersistentJSONObject;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONWriterTest {
+
+  private static final String DATA = "{ \"name\": \"Esteban\", \"ñ\": \"año\", \"numbers\": [ 1, 2.5, -3 ], \"empty\": {  }, \"list\": [  ], \"data\": { \"active\": true, \"none\": null } }";
+
+  @Test
+  public void testWriteToAppendable() throws JSONParseException, IOException {
+    JSONValue jsonValue = JSON.parse("", DATA);
+    StringWriter writer = new StringWriter();
+    jsonValue.writeTo(writer);
+    assertEquals(DATA, writer.toString());
+    assertEquals(jsonValue.toJSON(), writer.toString());
+  }
+
+  @Test
+  public void testWriteToOutputStream() throws JSONParseException, IOException {
+    JSONValue jsonValue = JSON.parse("", DATA);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    jsonValue.writeTo(outputStream);
+    assertEquals(DATA, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteManyElements() throws JSONParseException, IOException {
+    JSONValue jsonValue = JSON.parse("", DATA);
+    StringBuilder sb = new StringBuilder();
+    JSONWriter writer = new JSONWriter(sb);
+    writer.write(jsonValue.toJSONObject().getNullObject("data")).write(new JSONPair("id", 1));
+    writer.flush();
+    assertEquals("{ \"active\": true, \"none\": null }\"id\": 1", sb.toString());
+  }
+
+  @Test
+  public void testWriteOtherValues() throws JSONParseException {
+    JSONValue jsonValue = JSON.parse("", DATA);
+    assertEquals(DATA, JSONWriter.toJSON(PersistentJSONObject.of(jsonValue.toJSONObject())));
+    assertEquals(DATA, JSONWriter.toJSON(JSONDocument.of(jsonValue).getRoot()));
+  }
+
+  @Test
+  public void testWriteIndented() throws JSONParseException, IOException {
+    JSONValue jsonValue = JSON.parse("", "{ \"name\": \"Esteban\", \"numbers\": [ 1, 2 ], \"empty\": {  }, \"data\": { \"active\": true } }");
+    String expected = "{\n"
+            + "    \"name\": \"Esteban\",\n"
+            + "    \"numbers\": [\n"
+            + "        1,\n"
+            + "        2\n"
+            + "    ],\n"
+            + "    \"empty\": {  },\n"
+            + "    \"data\": {\n"
+            + "        \"active\": true\n"
+            + "    }\n"
+            + "}";
+    StringWriter stringWriter = new StringWriter();
+    new JSONWriter(stringWriter, new Indentation(4)).write(jsonValue);
+    assertEquals(expected, stringWriter.toString());
+    assertEquals(expected, JSONWriter.toFormatedJSON(PersistentJSONObject.of(jsonValue.toJSONObject()), new Indentation(4)));
+    assertEquals(expected.replace("    ", "  "), jsonValue.toFormatedString());
+  }
+
+  @Test
+  public void testWriteCanonical() throws JSONParseException, IOException {
+    String json = "{ \"numbers\": [ 333333333.333333, 1E30, 4.50, 2e-3 ], \"string\": \"\\u20ac$\\u000F\\u000aA'\\u0042\\u0022\\u005c\\\\\\\"\\/\", "
+            + "\"literals\": [ null, true, false ], \"é\": 1, \"b\": { \"z\": 1, \"a\": [  ] } }";
+    String expected = "{\"b\":{\"a\":[],\"z\":1},\"literals\":[null,true,false],\"numbers\":[333333333.333333,1e+30,4.5,0.002],"
+            + "\"string\":\"\u20ac$\\u000f\\nA'B\\\"\\\\\\\\\\\"/\",\"\u00e9\":1}";
+    JSONValue jsonValue = JSON.parse("", json);
+    StringWriter stringWriter = new StringWriter();
+    JSONWriter.canonical(stringWriter).write(jsonValue);
+    assertEquals(expected, stringWriter.toString());
+    assertEquals(expected, JSONWriter.toCanonicalJSON(PersistentJSONObject.of(jsonValue.toJSONObject())));
+    assertEquals(expected, JSONWriter.toCanonicalJSON(new ConcurrentJSONObject(jsonValue.toJSONObject())));
+    assertEquals(expected, JSONWriter.toCanonicalJSON(JSONDocument.of(jsonValue).getRoot()));
+    assertEquals(expected, JSONWriter.toCanonicalJSON(new JSONRaw(json)));
+    assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), JSONWriter.toCanonicalBytes(jsonValue));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    JSONWriter writer = JSONWriter.canonical(outputStream).write(jsonValue);
+    writer.flush();
+    assertEquals(expected, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+  }
+}
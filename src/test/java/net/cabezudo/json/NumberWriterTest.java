@@ -0,0 +1,68 @@
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class NumberWriterTest {
+
+  private static String writeLong(long value) throws IOException {
+    JSONByteWriter byteWriter = new JSONByteWriter(1);
+    NumberWriter.writeLong(value, byteWriter);
+    StringBuilder sb = new StringBuilder();
+    NumberWriter.writeLong(value, sb);
+    StringWriter writer = new StringWriter();
+    NumberWriter.writeLong(value, writer);
+    assertEquals(sb.toString(), new String(byteWriter.toByteArray(), StandardCharsets.UTF_8));
+    assertEquals(sb.toString(), writer.toString());
+    return sb.toString();
+  }
+
+  private static String writeFixed(double value) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    NumberWriter.writeFixed(value, sb);
+    return sb.toString();
+  }
+
+  @Test
+  public void testWriteLong() throws IOException {
+    long[] values = {0, 7, -7, 10, 99, 100, -1234567890, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+    for (long value : values) {
+      assertEquals(Long.toString(value), writeLong(value));
+    }
+  }
+
+  @Test
+  public void testWriteFixed() throws IOException {
+    assertEquals("0", writeFixed(0));
+    assertEquals("0", writeFixed(-0.0));
+    assertEquals("2.5", writeFixed(2.5));
+    assertEquals("-0.015625", writeFixed(-0.015625));
+    assertEquals("35184372088832.015625", writeFixed(35184372088832.015625));
+    assertEquals("0.000001", writeFixed(0.000001));
+    assertEquals("1.05", writeFixed(1.05));
+    assertEquals("3", writeFixed(2.9999999));
+    for (int i = -640; i <= 640; i++) {
+      double value = i / 64.0;
+      assertEquals(new BigDecimal(value).stripTrailingZeros().toPlainString(), writeFixed(value));
+    }
+  }
+
+  @Test
+  public void testNumbersInJSON() throws JSONParseException {
+    String json = "[ 1, -25, 2.5, -0.015625, 12345678901234567890, 0.1, 9223372036854775807 ]";
+    JSONValue jsonValue = JSON.parse("", json);
+    assertEquals(json, jsonValue.toJSON());
+    assertEquals(json, JSONWriter.toJSON(jsonValue));
+    assertEquals(json, new String(JSONByteWriter.toBytes(jsonValue), StandardCharsets.UTF_8));
+  }
+}
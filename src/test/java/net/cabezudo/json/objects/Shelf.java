@@ -0,0 +1,54 @@
+package net.cabezudo.json.objects;
+
+import java.util.List;
+import net.cabezudo.json.annotations.JSONProperty;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class Shelf {
+
+  @JSONProperty(name = "label")
+  private final String name;
+
+  @JSONProperty(dontShowIfNull = true)
+  private final String note;
+
+  @JSONProperty(dontShowIfZero = true)
+  private final Integer position;
+
+  @JSONProperty(dontShowIfEmpty = true)
+  private final int[] codes;
+
+  @JSONProperty
+  private final List<Book> books;
+
+  public Shelf(String name, String note, Integer position, int[] codes, List<Book> books) {
+    this.name = name;
+    this.note = note;
+    this.position = position;
+    this.codes = codes;
+    this.books = books;
+  }
+
+  public String getLabel() {
+    return name;
+  }
+
+  public String getNote() {
+    return note;
+  }
+
+  public Integer getPosition() {
+    return position;
+  }
+
+  public int[] getCodes() {
+    return codes;
+  }
+
+  public List<Book> getBooks() {
+    return books;
+  }
+}
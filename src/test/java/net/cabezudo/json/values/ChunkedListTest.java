@@ -0,0 +1,72 @@
+package net.cabezudo.json.values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class ChunkedListTest {
+
+  @Test
+  public void testAddAndGet() {
+    ChunkedList<Integer> list = new ChunkedList<>();
+    for (int i = 0; i < 10000; i++) {
+      list.add(i);
+    }
+    assertEquals(10000, list.size());
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(i, (int) list.get(i));
+    }
+    assertEquals(Integer.valueOf(5), list.set(5, 50));
+    assertEquals(Integer.valueOf(50), list.get(5));
+  }
+
+  @Test
+  public void testInsertAndRemove() {
+    List<Integer> expected = new ArrayList<>();
+    ChunkedList<Integer> list = new ChunkedList<>();
+    Random random = new Random(1);
+    for (int i = 0; i < 20000; i++) {
+      int operation = random.nextInt(4);
+      if (operation == 0 && !expected.isEmpty()) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index));
+      } else if (operation == 1) {
+        int index = random.nextInt(expected.size() + 1);
+        expected.add(index, i);
+        list.add(index, i);
+      } else {
+        expected.add(i);
+        list.add(i);
+      }
+    }
+    assertEquals(expected.size(), list.size());
+    assertEquals(expected, list);
+    for (int i = 0; i < expected.size(); i += 97) {
+      assertEquals(expected.get(i), list.get(i));
+    }
+  }
+
+  @Test
+  public void testCopyAndClear() {
+    ChunkedList<String> list = new ChunkedList<>(Arrays.asList("a", "b", "c"));
+    assertEquals(Arrays.asList("a", "b", "c"), list);
+    list.clear();
+    assertEquals(0, list.size());
+    list.add("d");
+    assertEquals(Arrays.asList("d"), list);
+    try {
+      list.get(1);
+      fail("The index is out of range.");
+    } catch (IndexOutOfBoundsException e) {
+      assertEquals("Index: 1, Size: 1", e.getMessage());
+    }
+  }
+}
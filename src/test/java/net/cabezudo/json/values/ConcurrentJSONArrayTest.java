@@ -0,0 +1,46 @@
+package net.cabezudo.json.values;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class ConcurrentJSONArrayTest {
+
+  @Test
+  public void testChanges() throws ElementNotExistException {
+    ConcurrentJSONArray jsonArray = new ConcurrentJSONArray(new JSONArray(new int[]{1, 2, 3}));
+    jsonArray.add("House");
+    assertEquals("[ 1, 2, 3, \"House\" ]", jsonArray.toJSON());
+    assertEquals(2, jsonArray.setValue(1, 5).toInt());
+    assertEquals(1, jsonArray.remove(0).toInt());
+    assertEquals("[ 5, 3, \"House\" ]", jsonArray.toJSON());
+    assertEquals(5, jsonArray.getValue(0).toInt());
+    assertEquals("[ 5, 3, \"House\" ]", jsonArray.toJSONArray().toJSON());
+  }
+
+  @Test
+  public void testConcurrentAdd() throws InterruptedException {
+    ConcurrentJSONArray jsonArray = new ConcurrentJSONArray();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          jsonArray.add(i);
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(4000, jsonArray.size());
+  }
+}
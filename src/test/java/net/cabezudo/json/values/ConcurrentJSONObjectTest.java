@@ -0,0 +1,80 @@
+package net.cabezudo.json.values;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class ConcurrentJSONObjectTest {
+
+  @Test
+  public void testPutAndRemove() throws PropertyNotExistException {
+    ConcurrentJSONObject jsonObject = new ConcurrentJSONObject();
+    jsonObject.put("b", 1);
+    jsonObject.put("a", "House");
+    jsonObject.add(new JSONPair("c", true));
+    assertEquals("{ \"b\": 1, \"a\": \"House\", \"c\": true }", jsonObject.toJSON());
+
+    jsonObject.put("b", 2);
+    assertEquals("{ \"b\": 2, \"a\": \"House\", \"c\": true }", jsonObject.toJSON());
+    assertEquals(2, jsonObject.getValue("b").toInt());
+
+    assertEquals("House", jsonObject.remove("a").getValue().toString());
+    assertNull(jsonObject.remove("a"));
+    assertEquals("{ \"b\": 2, \"c\": true }", jsonObject.toJSON());
+
+    assertEquals(2, jsonObject.putIfAbsent("b", 3).getValue().toInt());
+    assertEquals(2, jsonObject.size());
+  }
+
+  @Test
+  public void testOfAndDig() throws JSONParseException, PropertyNotExistException {
+    JSONObject source = JSON.parse("", "{ \"person\": { \"name\": \"Esteban\", \"childs\": [ { \"name\": \"Pedro\" } ] } }").toJSONObject();
+    ConcurrentJSONObject jsonObject = new ConcurrentJSONObject(source);
+    assertEquals(source.toJSON(), jsonObject.toJSON());
+    assertEquals("Pedro", jsonObject.digValue("person.childs.[0].name").toString());
+    assertEquals(source.toJSON(), jsonObject.toJSONObject().toJSON());
+  }
+
+  @Test
+  public void testConcurrentChanges() throws InterruptedException {
+    ConcurrentJSONObject jsonObject = new ConcurrentJSONObject();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final int thread = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          jsonObject.put("key" + thread + "-" + i, i);
+          jsonObject.put("shared" + (i % 10), i);
+          if (i % 2 == 0) {
+            jsonObject.remove("key" + thread + "-" + i);
+          }
+          jsonObject.toJSON();
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(4 * 500 + 10, jsonObject.size());
+    int count = 0;
+    for (JSONPair jsonPair : jsonObject) {
+      assertTrue(jsonObject.contains(jsonPair.getKey()));
+      count++;
+    }
+    assertEquals(jsonObject.size(), count);
+  }
+}
@@ -1,10 +1,13 @@
 package net.cabezudo.json.values;
 
+import net.cabezudo.json.exceptions.InvalidOperationException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
 import net.cabezudo.json.Log;
 import net.cabezudo.json.exceptions.ElementNotExistException;
 import net.cabezudo.json.exceptions.JSONParseException;
@@ -790,4 +793,186 @@ public class JSONArrayTest {
     JSONArray jsonBookListArray = JSON.toJSONTree(bookList).toJSONArray();
     assertEquals("[ { \"id\": 1, \"name\": \"El doble.\" }, { \"id\": 8, \"name\": \"El principito.\" }, { \"id\": 13, \"name\": \"Crónica de una muerte anunciada.\" } ]", jsonBookListArray.toJSON());
   }
+
+  @Test
+  public void testNumericArray() throws JSONParseException, ElementNotExistException {
+    JSONArray jsonArray = JSON.parse("", "[ 1, -2, 3.25, 4000000000, 0.000001 ]").toJSONArray();
+    assertEquals(5, jsonArray.size());
+    assertEquals(new JSONNumber(new BigDecimal("3.25")), jsonArray.getValue(2));
+    assertEquals(new JSONNumber(4000000000L), jsonArray.getValue(3));
+    Assert.assertArrayEquals(new double[]{1, -2, 3.25, 4000000000d, 0.000001}, jsonArray.toDoubleArray(), 0);
+    assertEquals("[ 1, -2, 3.25, 4000000000, 0.000001 ]", jsonArray.toJSON());
+
+    jsonArray.remove(2);
+    jsonArray.setValue(0, new JSONNumber(7));
+    Assert.assertArrayEquals(new double[]{7, -2, 4000000000d, 0.000001}, jsonArray.toDoubleArray(), 0);
+
+    jsonArray.add(new JSONString("House"));
+    assertEquals("[ 7, -2, 4000000000, 0.000001, \"House\" ]", jsonArray.toJSON());
+  }
+
+  @Test
+  public void testNumericArrayWithBigNumbers() throws JSONParseException, ElementNotExistException {
+    JSONArray jsonArray = JSON.parse("", "[ 9223372036854775807, 123456789012345678901234567890, 1.5 ]").toJSONArray();
+    assertEquals(new JSONNumber(Long.MAX_VALUE), jsonArray.getValue(0));
+    assertEquals(new JSONNumber(new BigDecimal("123456789012345678901234567890")), jsonArray.getValue(1));
+    assertEquals(new JSONNumber(new BigDecimal("1.5")), jsonArray.getValue(2));
+  }
+
+  @Test
+  public void testNumericArrayToIntArray() {
+    JSONArray jsonArray = new JSONArray(new int[]{1, 2, Integer.MIN_VALUE});
+    Assert.assertArrayEquals(new int[]{1, 2, Integer.MIN_VALUE}, jsonArray.toIntArray());
+    jsonArray.addNumber(0.5);
+    try {
+      jsonArray.toIntArray();
+      fail("The array has a decimal number.");
+    } catch (ArithmeticException e) {
+      // Expected
+    }
+    jsonArray.remove(3);
+    jsonArray.remove(2);
+    Assert.assertArrayEquals(new int[]{1, 2}, jsonArray.toIntArray());
+    Assert.assertArrayEquals(new byte[]{1, 2}, jsonArray.toByteArray());
+  }
+
+  @Test
+  public void testEmpty() {
+    assertEquals(0, JSONArray.EMPTY.size());
+    Assert.assertTrue(JSONArray.EMPTY.isReadOnly());
+    try {
+      JSONArray.EMPTY.addNumber(1);
+      fail("The empty array can't be modified.");
+    } catch (InvalidOperationException e) {
+      assertEquals(0, JSONArray.EMPTY.size());
+    }
+  }
+
+  @Test
+  public void testFreezeAndThaw() throws JSONParseException, ElementNotExistException {
+    JSONArray jsonArray = JSON.parse("", "[ 1, { \"id\": 2 }, [ 3 ] ]").toJSONArray();
+    JSONArray frozen = jsonArray.freeze();
+    Assert.assertTrue(frozen.isReadOnly());
+    Assert.assertTrue(frozen == frozen.freeze());
+    Assert.assertTrue(frozen.getObject(1).isReadOnly());
+    Assert.assertTrue(((JSONArray) frozen.getValue(2)).isReadOnly());
+    try {
+      frozen.add(new JSONNumber(4));
+      fail("A frozen array can't be modified.");
+    } catch (InvalidOperationException e) {
+      assertEquals("[ 1, { \"id\": 2 }, [ 3 ] ]", frozen.toJSON());
+    }
+    JSONArray thawed = frozen.thaw();
+    ((JSONArray) thawed.getValue(2)).add(new JSONNumber(4));
+    assertEquals("[ 1, { \"id\": 2 }, [ 3, 4 ] ]", thawed.toJSON());
+    assertEquals("[ 1, { \"id\": 2 }, [ 3 ] ]", frozen.toJSON());
+  }
+
+  @Test
+  public void testEqualsAndHashCode() throws JSONParseException {
+    JSONArray a = JSON.parse("", "[ 1, 2.5, { \"id\": 1 }, [ \"x\" ] ]").toJSONArray();
+    JSONArray b = new JSONArray();
+    b.add(new JSONNumber(1));
+    b.add(new JSONNumber(2.5));
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("id", 1));
+    b.add(jsonObject);
+    JSONArray inner = new JSONArray();
+    inner.add(new JSONString("x"));
+    b.add(inner);
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertEquals(a.freeze(), b.freeze());
+    assertEquals(a.contentHash(), b.freeze().contentHash());
+
+    JSONArray c = JSON.parse("", "[ 2.5, 1, { \"id\": 1 }, [ \"x\" ] ]").toJSONArray();
+    Assert.assertFalse(a.equals(c));
+    Assert.assertFalse(a.contentHash() == c.contentHash());
+    Assert.assertFalse(a.freeze().equals(c.freeze()));
+  }
+
+  @Test
+  public void testBuilder() throws ElementNotExistException {
+    JSONArray numbers = JSONArray.builder(3).addNumber(1).add(new JSONNumber(2.5)).add(3).build();
+    assertEquals("[ 1, 2.5, 3 ]", numbers.toJSON());
+    numbers.add("text");
+    assertEquals("[ 1, 2.5, 3, \"text\" ]", numbers.toJSON());
+
+    JSONArray values = JSONArray.builder(2).add(new JSONString("a")).add((JSONValue) null).add(1).build();
+    assertEquals("[ \"a\", null, 1 ]", values.toJSON());
+    assertEquals(1, values.getValue(2).toInt());
+
+    JSONArray.Builder builder = JSONArray.builder(0);
+    builder.build();
+    try {
+      builder.add(1);
+      fail("The builder can't be used after build the array.");
+    } catch (IllegalStateException e) {
+      assertEquals("The array was already built.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testEstimateRetainedBytes() {
+    JSONArray numbers = new JSONArray();
+    JSONArray strings = new JSONArray();
+    for (int i = 0; i < 100; i++) {
+      numbers.addNumber(i + 5000);
+      strings.add(new JSONString(Integer.toString(i + 5000)));
+    }
+    Assert.assertTrue(numbers.estimateRetainedBytes() > 800);
+    Assert.assertTrue(strings.estimateRetainedBytes() > numbers.estimateRetainedBytes());
+    assertEquals(PersistentJSONArray.of(strings).estimateRetainedBytes(), PersistentJSONArray.of(strings).estimateRetainedBytes());
+    Assert.assertTrue(PersistentJSONArray.of(strings).estimateRetainedBytes() > strings.estimateRetainedBytes());
+  }
+
+  @Test
+  public void testAddAtIndex() throws ElementNotExistException {
+    JSONArray jsonArray = new JSONArray();
+    jsonArray.addNumber(1);
+    jsonArray.addNumber(3);
+    jsonArray.add(1, new JSONNumber(2));
+    jsonArray.add(0, new JSONString("first"));
+    jsonArray.add(4, null);
+    assertEquals("[ \"first\", 1, 2, 3, null ]", jsonArray.toJSON());
+  }
+
+  @Test
+  public void testLargeArray() throws ElementNotExistException {
+    JSONArray jsonArray = new JSONArray();
+    int size = 100000;
+    for (int i = 0; i < size; i++) {
+      jsonArray.add(new JSONString("s" + i));
+    }
+    assertEquals(size, jsonArray.size());
+    jsonArray.add(50000, new JSONString("middle"));
+    assertEquals("middle", jsonArray.getValue(50000).toString());
+    assertEquals("s50000", jsonArray.getValue(50001).toString());
+    assertEquals("s0", jsonArray.remove(0).toString());
+    assertEquals("middle", jsonArray.getValue(49999).toString());
+    assertEquals("s99999", jsonArray.getValue(size - 1).toString());
+    int count = 0;
+    for (JSONValue jsonValue : jsonArray) {
+      count++;
+    }
+    assertEquals(size, count);
+  }
+
+  @Test
+  public void testAsList() {
+    JSONArray jsonArray = new JSONArray();
+    List<JSONValue> view = jsonArray.asList();
+    assertEquals(0, view.size());
+    jsonArray.addNumber(1);
+    jsonArray.addNumber(2);
+    assertEquals(Arrays.asList(JSONNumber.get(1), JSONNumber.get(2)), view);
+    jsonArray.add(new JSONString("x"));
+    assertEquals(Arrays.asList(JSONNumber.get(1), JSONNumber.get(2), new JSONString("x")), view);
+    try {
+      view.remove(0);
+      fail("The view can't be modified.");
+    } catch (UnsupportedOperationException e) {
+      assertEquals(3, jsonArray.size());
+    }
+  }
 }
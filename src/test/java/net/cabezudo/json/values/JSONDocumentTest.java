@@ -0,0 +1,117 @@
+package net.cabezudo.json.values;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONDocumentTest {
+
+  private static final String DATA = "{ \"name\": \"Esteban\", \"age\": 46, \"height\": 1.83, \"married\": false, \"nickname\": null, "
+          + "\"childs\": [ { \"name\": \"Pedro\", \"age\": 4 }, { \"name\": \"María\", \"age\": 12345678901234567890 } ], \"empty\": {  }, \"list\": [  ] }";
+
+  @Test
+  public void testToJSON() throws JSONParseException {
+    JSONDocument document = JSONDocument.parse("", DATA);
+    assertEquals(JSON.parse("", DATA).toJSON(), document.getRoot().toJSON());
+  }
+
+  @Test
+  public void testGetValue() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    JSONCursor root = JSONDocument.parse("", DATA).getRoot();
+    assertTrue(root.isObject());
+    assertEquals(8, root.size());
+    assertEquals("Esteban", root.getValue("name").toString());
+    assertEquals(46, root.getValue("age").toInt());
+    assertEquals(1.83, root.getValue("height").toDouble(), 0);
+    assertEquals(false, root.getValue("married").toBoolean());
+    assertTrue(root.getValue("nickname").isNull());
+    assertNull(root.getNullValue("surname"));
+    assertEquals(2, root.getValue("childs").size());
+    assertEquals("Pedro", root.getValue("childs").getValue(0).getValue("name").toString());
+    assertTrue(root.getValue("empty").isEmpty());
+    assertTrue(root.getValue("list").isEmpty());
+    assertEquals(Arrays.asList("age", "childs", "empty", "height", "list", "married", "name", "nickname"), root.getKeyList());
+  }
+
+  @Test
+  public void testDigValue() throws JSONParseException, PropertyNotExistException {
+    JSONCursor root = JSONDocument.parse("", DATA).getRoot();
+    assertEquals("María", root.digValue("childs.[1].name").toString());
+    assertEquals("12345678901234567890", root.digValue("childs.[1].age").toJSON());
+    assertNull(root.digNullValue("childs.[2].name"));
+
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("document", root));
+    assertEquals(4, jsonObject.digValue("document.childs.[0].age").toInt());
+  }
+
+  @Test
+  public void testToJSONTree() throws JSONParseException {
+    JSONDocument document = JSONDocument.parse("", DATA);
+    JSONValue jsonValue = document.getRoot().toJSONTree();
+    assertTrue(jsonValue instanceof JSONObject);
+    assertEquals(JSON.parse("", DATA).toJSON(), jsonValue.toJSON());
+    assertEquals(document.getRoot().toJSON(), JSONDocument.of(document.getRoot()).getRoot().toJSON());
+  }
+
+  @Test
+  public void testManyProperties() throws PropertyNotExistException {
+    JSONObject jsonObject = new JSONObject();
+    for (int i = 0; i < 1000; i++) {
+      jsonObject.add(new JSONPair("key" + i, i));
+    }
+    JSONCursor root = JSONDocument.of(jsonObject).getRoot();
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, root.getValue("key" + i).toInt());
+    }
+  }
+
+  @Test
+  public void testToFormatedJSON() throws JSONParseException {
+    JSONValue jsonValue = JSON.parse("", DATA);
+    JSONCursor root = JSONDocument.of(jsonValue).getRoot();
+    assertEquals(jsonValue.toFormatedString(), root.toFormatedString());
+    assertEquals(JSONWriter.toFormatedJSON(jsonValue, new Indentation(4)), JSONWriter.toFormatedJSON(root, new Indentation(4)));
+    assertEquals("[  ]", root.getNullValue("list").toFormatedString());
+  }
+
+  @Test
+  public void testConversions() throws JSONParseException, PropertyNotExistException {
+    String data = "{ \"numbers\": [ 1, 2, 300 ], \"decimal\": 2.5, \"names\": [ \"a\", \"b\" ], \"big\": 12345678901234567890, \"yes\": true }";
+    JSONCursor root = JSONDocument.parse("", data).getRoot();
+    assertArrayEquals(new int[]{ 1, 2, 300 }, root.getValue("numbers").toIntArray());
+    assertArrayEquals(new double[]{ 1, 2, 300 }, root.getValue("numbers").toDoubleArray(), 0);
+    assertArrayEquals(new String[]{ "a", "b" }, root.getValue("names").toStringArray());
+    assertEquals(5, root.toArray().length);
+    assertEquals("b", root.getValue("names").toArray()[1].toString());
+    assertEquals(new BigDecimal("2.5"), root.getValue("decimal").toBigDecimal());
+    assertEquals(new BigInteger("12345678901234567890"), root.getValue("big").toBigInteger());
+    assertEquals(300L, (long) root.digValue("numbers.[2]").toLong());
+    assertEquals(Boolean.TRUE, root.getValue("yes").toBoolean());
+    assertEquals("a", root.digValue("names.[0]").toJSONString().toString());
+    try {
+      root.toBoolean();
+      fail("An object can't be converted to a Boolean.");
+    } catch (JSONConversionException e) {
+      assertEquals("I can't convert a net.cabezudo.json.values.JSONObject to a Boolean", e.getMessage());
+    }
+  }
+}
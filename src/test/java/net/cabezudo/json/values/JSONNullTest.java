@@ -1,5 +1,7 @@
 package net.cabezudo.json.values;
 
+import net.cabezudo.json.JSON;
+import static org.junit.Assert.assertSame;
 import java.util.List;
 import net.cabezudo.json.exceptions.ElementNotExistException;
 import static org.junit.Assert.assertEquals;
@@ -121,4 +123,11 @@ public class JSONNullTest {
     assertEquals(1, array.length);
     assertEquals("null", array[0]);
   }
+
+  @Test
+  public void testGet() {
+    assertSame(JSONNull.get(), JSONNull.get());
+    assertSame(JSONNull.get(), JSON.toJSONTree(null));
+    assertEquals(new JSONNull(), JSONNull.get());
+  }
 }
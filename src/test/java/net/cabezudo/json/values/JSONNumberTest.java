@@ -1,5 +1,10 @@
 package net.cabezudo.json.values;
 
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import static org.junit.Assert.assertSame;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Calendar;
@@ -229,6 +234,37 @@ public class JSONNumberTest {
     assertEquals(12345678912345678l, l);
   }
 
+  @Test
+  public void testEqualsBetweenRepresentations() {
+    assertEquals(new JSONNumber(new BigDecimal("100.000")), new JSONNumber(100L));
+    assertEquals(new JSONNumber(new BigDecimal("2.5")), new JSONNumber(2.5));
+    assertEquals(new JSONNumber(1.0000001), new JSONNumber(1));
+    assertEquals(new JSONNumber(new BigInteger("-9223372036854775808")), new JSONNumber(Long.MIN_VALUE));
+    assertEquals(new JSONNumber(new BigDecimal("70368744177663.015625")), new JSONNumber(70368744177663.015625));
+    assertEquals(new JSONNumber(new BigDecimal("0.1")), new JSONNumber(0.1));
+    assertEquals(new BigDecimal("1E+2").hashCode(), new JSONNumber(100).hashCode());
+    assertEquals(new BigDecimal("2.5").hashCode(), new JSONNumber(2.5).hashCode());
+  }
+
+  @Test
+  public void testCompareToBetweenRepresentations() {
+    JSONNumber a = new JSONNumber(2);
+    JSONNumber b = new JSONNumber(2.5);
+    JSONNumber c = new JSONNumber(2.6);
+    JSONNumber d = new JSONNumber(new BigInteger("100000000000000000000"));
+    assertTrue(a.compareTo(b) < 0);
+    assertTrue(b.compareTo(c) < 0);
+    assertTrue(c.compareTo(d) < 0);
+    assertTrue(d.compareTo(a) > 0);
+    assertEquals("100000000000000000000", d.toJSON());
+    assertEquals("2.5", b.toJSON());
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testToIntWithOverflow() {
+    new JSONNumber(Long.MAX_VALUE).toInt();
+  }
+
   @Test
   public void testToShort() {
     JSONNumber jsonNumber = new JSONNumber(1000);
@@ -244,4 +280,44 @@ public class JSONNumberTest {
     assertEquals("69.7", array[0]);
   }
 
+  @Test
+  public void testGet() throws JSONParseException {
+    assertSame(JSONNumber.get(10), JSONNumber.get(10));
+    assertSame(JSONNumber.get(-128), JSON.toJSONTree(-128));
+    assertSame(JSONNumber.get(1024), JSON.parse("", "[ 1024 ]").toJSONArray().getNullValue(0));
+    assertEquals(new JSONNumber(100000), JSONNumber.get(100000));
+  }
+
+  @Test
+  public void testToCanonicalString() {
+    assertEquals("0", JSONNumber.toCanonicalString(-0.0));
+    assertEquals("1e-27", JSONNumber.toCanonicalString(1e-27));
+    assertEquals("333333333.3333333", JSONNumber.toCanonicalString(333333333.33333329));
+    assertEquals("1e+30", JSONNumber.toCanonicalString(1e30));
+    assertEquals("4.5", JSONNumber.toCanonicalString(4.50));
+    assertEquals("0.002", JSONNumber.toCanonicalString(2e-3));
+    assertEquals("0.000001", JSONNumber.toCanonicalString(1e-6));
+    assertEquals("1e-7", JSONNumber.toCanonicalString(1e-7));
+    assertEquals("100000000000000000000", JSONNumber.toCanonicalString(1e20));
+    assertEquals("1e+21", JSONNumber.toCanonicalString(1e21));
+    assertEquals("-1.5e+300", JSONNumber.toCanonicalString(-1.5e300));
+    assertEquals("5e-324", JSONNumber.toCanonicalString(Double.MIN_VALUE));
+    assertEquals("1.7976931348623157e+308", JSONNumber.toCanonicalString(Double.MAX_VALUE));
+    assertEquals("0.1", JSONNumber.toCanonicalString(0.1));
+    assertEquals("0.30000000000000004", JSONNumber.toCanonicalString(0.1 + 0.2));
+  }
+
+  @Test
+  public void testToCanonicalJSON() {
+    assertEquals("9007199254740992", JSONWriter.toCanonicalJSON(new JSONNumber(9007199254740992L)));
+    assertEquals("9007199254740992", JSONWriter.toCanonicalJSON(new JSONNumber(9007199254740993L)));
+    assertEquals("-25", JSONWriter.toCanonicalJSON(new JSONNumber(-25)));
+    assertEquals("69.7", JSONWriter.toCanonicalJSON(new JSONNumber("69.70")));
+    assertEquals("1e+30", JSONWriter.toCanonicalJSON(new JSONNumber("1E30")));
+  }
+
+  @Test(expected = JSONConversionException.class)
+  public void testToCanonicalJSONOutOfRange() {
+    JSONWriter.toCanonicalJSON(new JSONNumber("1E400"));
+  }
 }
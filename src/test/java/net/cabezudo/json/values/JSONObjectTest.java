@@ -1,11 +1,16 @@
 package net.cabezudo.json.values;
 
+import net.cabezudo.json.exceptions.InvalidOperationException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Iterator;
 import java.util.List;
 import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONByteWriter;
 import net.cabezudo.json.JSONElement;
 import net.cabezudo.json.JSONPair;
 import net.cabezudo.json.Log;
@@ -21,6 +26,7 @@ import net.cabezudo.json.objects.DigTypes;
 import net.cabezudo.json.objects.Storage;
 import net.cabezudo.json.objects.Types;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import org.junit.Test;
@@ -110,6 +116,18 @@ public class JSONObjectTest {
     assertEquals("c", keyList.get(2));
   }
 
+  @Test
+  public void testGetKeyListAfterChanges() throws JSONParseException {
+    JSONObject jsonObject = new JSONObject("testGetKeyListAfterChanges", "{\"c\": \"c\", \"a\":\"a\"}");
+    assertEquals("a", jsonObject.getKeyList().get(0));
+    jsonObject.add(new JSONPair("b", "b"));
+    jsonObject.remove("a");
+    List<String> keyList = jsonObject.getKeyList();
+    assertEquals(2, keyList.size());
+    assertEquals("b", keyList.get(0));
+    assertEquals("c", keyList.get(1));
+  }
+
   @Test
   public void testDeleteElementUsingAnIndex() {
     JSONObject jsonObject = new JSONObject();
@@ -2095,4 +2113,342 @@ public class JSONObjectTest {
     assertEquals("{ \"id\": 69, \"list\": [ 1, 8, 13 ], \"mostImportantBook\": 8 }", jsonStorageReferencedTree.toJSON());
   }
 
+  @Test
+  public void testEmpty() {
+    assertTrue(JSONObject.EMPTY.isEmpty());
+    assertTrue(JSONObject.EMPTY.isReadOnly());
+    assertEquals("{  }", JSONObject.EMPTY.toJSON());
+    try {
+      JSONObject.EMPTY.add(new JSONPair("name", "value"));
+      fail("The empty object can't be modified.");
+    } catch (InvalidOperationException e) {
+      assertTrue(JSONObject.EMPTY.isEmpty());
+    }
+  }
+
+  @Test
+  public void testFreezeAndThaw() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    JSONObject jsonObject = JSON.parse("", "{ \"name\": \"Esteban\", \"data\": { \"id\": 1 }, \"list\": [ { \"id\": 2 } ] }").toJSONObject();
+    JSONObject frozen = jsonObject.freeze();
+    assertTrue(frozen.isReadOnly());
+    assertTrue(frozen == frozen.freeze());
+    assertEquals(jsonObject.toJSON(), frozen.toJSON());
+    assertTrue(frozen.getObject("data").isReadOnly());
+    JSONArray list = (JSONArray) frozen.getValue("list");
+    assertTrue(list.isReadOnly());
+    assertTrue(list.getObject(0).isReadOnly());
+    try {
+      frozen.getObject("data").add(new JSONPair("name", "value"));
+      fail("A frozen object can't be modified.");
+    } catch (InvalidOperationException e) {
+      assertEquals("{ \"id\": 1 }", frozen.getObject("data").toJSON());
+    }
+
+    jsonObject.getObject("data").add(new JSONPair("name", "value"));
+    assertEquals("{ \"id\": 1 }", frozen.getObject("data").toJSON());
+
+    JSONObject thawed = frozen.thaw();
+    assertTrue(!thawed.isReadOnly());
+    thawed.getObject("data").add(new JSONPair("name", "value"));
+    ((JSONArray) thawed.getValue("list")).add(new JSONNumber(3));
+    assertEquals("{ \"name\": \"Esteban\", \"data\": { \"id\": 1, \"name\": \"value\" }, \"list\": [ { \"id\": 2 }, 3 ] }", thawed.toJSON());
+    assertEquals("{ \"name\": \"Esteban\", \"data\": { \"id\": 1 }, \"list\": [ { \"id\": 2 } ] }", frozen.toJSON());
+  }
+
+  @Test
+  public void testEqualsAndHashCode() throws JSONParseException {
+    JSONObject a = JSON.parse("", "{ \"name\": \"Esteban\", \"data\": { \"id\": 1, \"list\": [ 1, 2.5, \"x\" ] } }").toJSONObject();
+    JSONObject b = JSON.parse("", "{ \"data\": { \"list\": [ 1, 2.5, \"x\" ], \"id\": 1 }, \"name\": \"Esteban\" }").toJSONObject();
+    JSONObject c = JSON.parse("", "{ \"name\": \"Esteban\", \"data\": { \"id\": 1, \"list\": [ 2.5, 1, \"x\" ] } }").toJSONObject();
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertEquals(a.contentHash(), b.contentHash());
+    assertTrue(!a.equals(c));
+    assertTrue(a.contentHash() != c.contentHash());
+
+    JSONObject frozen = a.freeze();
+    assertEquals(a, frozen);
+    assertEquals(a.contentHash(), frozen.contentHash());
+    assertTrue(!frozen.equals(c.freeze()));
+
+    long hash = a.contentHash();
+    a.getNullObject("data").add(new JSONPair("other", true));
+    assertTrue(hash != a.contentHash());
+    assertTrue(!a.equals(b));
+    assertEquals(hash, frozen.contentHash());
+
+    assertEquals(new JSONPair("data", b.getNullObject("data")), new JSONPair("data", frozen.getNullObject("data")));
+  }
+
+  @Test
+  public void testBuilder() throws PropertyNotExistException {
+    JSONObject jsonObject = JSONObject.builder(3)
+            .add("name", new JSONString("Esteban"))
+            .add("id", 1)
+            .add(new JSONPair("active", true))
+            .build();
+    assertEquals("{ \"name\": \"Esteban\", \"id\": 1, \"active\": true }", jsonObject.toJSON());
+    assertEquals(1, (int) jsonObject.getInteger("id"));
+    jsonObject.add(new JSONPair("other", 2));
+    assertEquals(4, jsonObject.size());
+
+    try {
+      JSONObject.builder(2).add("a", 1).add("a", 2);
+      fail("The builder must check the duplicated keys.");
+    } catch (RuntimeException e) {
+      assertEquals("The object { \"a\": 1 } already has the key a.", e.getMessage());
+    }
+
+    assertEquals("{ \"a\": 1, \"b\": 2 }", JSONObject.builder(2).trusted().add("a", 1).add("b", 2).build().toJSON());
+    try {
+      JSONObject.builder(2).trusted().add("a", 1).add("a", 2).build();
+      fail("The builder must report the duplicated keys when the object is built.");
+    } catch (RuntimeException e) {
+      assertEquals("The object { \"a\": 1, \"a\": 2 } already has the key a.", e.getMessage());
+    }
+
+    JSONObject.Builder builder = JSONObject.builder(0);
+    builder.build();
+    try {
+      builder.add("a", 1);
+      fail("The builder can't be used after build the object.");
+    } catch (IllegalStateException e) {
+      assertEquals("The object was already built.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testEstimateRetainedBytes() throws JSONParseException {
+    JSONObject small = JSON.parse("", "{ \"a\": 1 }").toJSONObject();
+    JSONObject big = JSON.parse("", "{ \"a\": 1, \"name\": \"Esteban Cabezudo\", \"list\": [ 1, 2, 3, \"x\" ], \"data\": { \"b\": 123456789.123 } }").toJSONObject();
+    assertTrue(small.estimateRetainedBytes() > 0);
+    assertTrue(big.estimateRetainedBytes() > small.estimateRetainedBytes());
+
+    long size = big.estimateRetainedBytes();
+    JSONObject frozen = big.freeze();
+    assertTrue(frozen.estimateRetainedBytes() > 0);
+    big.add(new JSONPair("other", "value"));
+    assertTrue(big.estimateRetainedBytes() > size);
+    assertEquals(frozen.estimateRetainedBytes(), frozen.estimateRetainedBytes());
+
+    assertEquals(0, JSONNull.get().estimateRetainedBytes());
+    assertEquals(0, JSONBoolean.TRUE.estimateRetainedBytes());
+    assertEquals(0, JSONString.EMPTY.estimateRetainedBytes());
+    assertEquals(0, JSONNumber.get(1).estimateRetainedBytes());
+    assertTrue(new JSONNumber(1).estimateRetainedBytes() > 0);
+    assertTrue(new JSONNumber(new BigDecimal("123456789012345678901234567890")).estimateRetainedBytes() > new JSONNumber(1).estimateRetainedBytes());
+  }
+
+  @Test
+  public void testRemoveManyProperties() throws PropertyIndexNotExistException {
+    JSONObject jsonObject = new JSONObject();
+    for (int i = 0; i < 5000; i++) {
+      jsonObject.add(new JSONPair("k" + i, i));
+    }
+    for (int i = 0; i < 5000; i += 2) {
+      jsonObject.remove("k" + i);
+    }
+    assertEquals(2500, jsonObject.size());
+    assertEquals("k1", jsonObject.getElement(0).getKey());
+    assertEquals("k4999", jsonObject.getElement(2499).getKey());
+
+    JSONPair jsonPair = jsonObject.remove("k1");
+    jsonObject.add(jsonPair);
+    assertEquals(2500, jsonObject.size());
+    assertEquals("k3", jsonObject.getElement(0).getKey());
+    assertEquals("k1", jsonObject.getElement(2499).getKey());
+    int count = 0;
+    for (JSONPair pair : jsonObject) {
+      count++;
+    }
+    assertEquals(2500, count);
+  }
+
+  @Test
+  public void testRemoveAndRead() throws PropertyIndexNotExistException {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("a", 1));
+    jsonObject.add(new JSONPair("b", 2));
+    jsonObject.add(new JSONPair("c", 3));
+    jsonObject.add(new JSONPair("d", 4));
+    jsonObject.add(new JSONPair("e", 5));
+    JSONPair jsonPair = jsonObject.remove("b");
+    assertEquals("{ \"a\": 1, \"c\": 3, \"d\": 4, \"e\": 5 }", jsonObject.toJSON());
+    assertEquals("c", jsonObject.getElement(1).getKey());
+    assertEquals(new JSONObject(jsonObject), jsonObject);
+    jsonObject.add(jsonPair);
+    assertEquals("{ \"a\": 1, \"c\": 3, \"d\": 4, \"e\": 5, \"b\": 2 }", jsonObject.toJSON());
+
+    jsonObject.remove("d");
+    Iterator<JSONPair> iterator = jsonObject.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().getKey().equals("c")) {
+        iterator.remove();
+      }
+    }
+    assertEquals("{ \"a\": 1, \"e\": 5, \"b\": 2 }", jsonObject.toJSON());
+    assertEquals(Arrays.asList("a", "b", "e"), jsonObject.getKeyList());
+    assertEquals("e", jsonObject.remove(1).getKey());
+    assertEquals("{ \"a\": 1, \"b\": 2 }", jsonObject.toJSON());
+  }
+
+  @Test
+  public void testRemoveIf() {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("a", 1));
+    jsonObject.add(new JSONPair("b", 2));
+    jsonObject.add(new JSONPair("c", 3));
+    jsonObject.add(new JSONPair("d", 4));
+    assertTrue(jsonObject.removeIf(jsonPair -> jsonPair.getValue().toInt() % 2 == 0));
+    assertEquals("{ \"a\": 1, \"c\": 3 }", jsonObject.toJSON());
+    assertTrue(!jsonObject.contains("b"));
+    assertTrue(!jsonObject.removeIf(jsonPair -> jsonPair.getKey().equals("x")));
+    assertEquals(Arrays.asList("a", "c"), jsonObject.getKeyList());
+    try {
+      jsonObject.removeIf(jsonPair -> {
+        if (jsonPair.getKey().equals("c")) {
+          throw new IllegalStateException("c");
+        }
+        return true;
+      });
+      fail("The predicate must throw an exception.");
+    } catch (IllegalStateException e) {
+      assertEquals("{ \"a\": 1, \"c\": 3 }", jsonObject.toJSON());
+      assertTrue(jsonObject.contains("a"));
+    }
+  }
+
+  @Test
+  public void testRemoveKeysAndRetainKeys() {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("a", 1));
+    jsonObject.add(new JSONPair("b", 2));
+    jsonObject.add(new JSONPair("c", 3));
+    jsonObject.add(new JSONPair("d", 4));
+    assertTrue(jsonObject.removeKeys(Arrays.asList("b", "x")));
+    assertTrue(!jsonObject.removeKeys(Arrays.asList("x", "y")));
+    assertEquals("{ \"a\": 1, \"c\": 3, \"d\": 4 }", jsonObject.toJSON());
+    assertTrue(jsonObject.retainKeys(Arrays.asList("d", "a", "z")));
+    assertEquals("{ \"a\": 1, \"d\": 4 }", jsonObject.toJSON());
+    assertEquals(Arrays.asList("a", "d"), jsonObject.getKeyList());
+    assertTrue(!jsonObject.retainKeys(Arrays.asList("a", "d")));
+    try {
+      jsonObject.freeze().removeKeys(Arrays.asList("a"));
+      fail("A frozen object can't be modified.");
+    } catch (InvalidOperationException e) {
+      assertEquals(2, jsonObject.size());
+    }
+  }
+
+  @Test
+  public void testViews() {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("b", 2));
+    jsonObject.add(new JSONPair("a", 1));
+    List<String> keys = jsonObject.keysView();
+    List<JSONValue> values = jsonObject.valuesView();
+    assertEquals(Arrays.asList("a", "b"), keys);
+    assertEquals(Arrays.asList(JSONNumber.get(2), JSONNumber.get(1)), values);
+
+    jsonObject.add(new JSONPair("c", 3));
+    jsonObject.remove("b");
+    assertEquals(Arrays.asList("a", "c"), keys);
+    assertEquals(Arrays.asList(JSONNumber.get(1), JSONNumber.get(3)), values);
+    try {
+      keys.add("d");
+      fail("The view can't be modified.");
+    } catch (UnsupportedOperationException e) {
+      assertEquals(2, jsonObject.size());
+    }
+  }
+
+  @Test
+  public void testSerializedForm() throws JSONParseException {
+    JSONObject jsonObject = JSON.parse("", "{ \"a\": { \"b\": [ 1, { \"c\": \"x\" } ] }, \"d\": { \"e\": true } }").toJSONObject();
+    JSONObject a = jsonObject.getNullObject("a");
+    JSONObject c = a.getNullJSONArray("b").getNullObject(1);
+    JSONObject d = jsonObject.getNullObject("d");
+    JSONByteWriter writer = new JSONByteWriter(64, true);
+
+    writer.write(jsonObject);
+    assertEquals(jsonObject.toJSON(), new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    assertTrue(jsonObject.isSerializedStable());
+    assertTrue(c.isSerializedStable());
+
+    c.add(new JSONPair("f", 2));
+    assertFalse(c.isSerializedStable());
+    assertFalse(a.isSerializedStable());
+    assertFalse(jsonObject.isSerializedStable());
+    assertTrue(d.isSerializedStable());
+
+    writer.reset();
+    writer.write(jsonObject);
+    assertEquals(jsonObject.toJSON(), new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    assertTrue(jsonObject.isSerializedStable());
+
+    a.getNullJSONArray("b").setValue(0, new JSONString("one"));
+    d.remove("e");
+    writer.reset();
+    writer.write(jsonObject);
+    assertEquals("{ \"a\": { \"b\": [ \"one\", { \"c\": \"x\", \"f\": 2 } ] }, \"d\": {  } }", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+
+    JSONObject shared = new JSONObject();
+    shared.add(new JSONPair("g", new ConcurrentJSONArray()));
+    jsonObject.add(new JSONPair("shared", shared));
+    writer.reset();
+    writer.write(jsonObject);
+    assertFalse(shared.isSerializedStable());
+    assertFalse(jsonObject.isSerializedStable());
+    assertTrue(a.isSerializedStable());
+  }
+
+  @Test
+  public void testSerializedFormPersistentChild() {
+    ConcurrentJSONObject concurrentObject = new ConcurrentJSONObject();
+    concurrentObject.put("x", 1);
+    ConcurrentJSONArray concurrentArray = new ConcurrentJSONArray();
+    concurrentArray.add(1);
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("p", PersistentJSONObject.EMPTY.with("c", concurrentObject)));
+    jsonObject.add(new JSONPair("q", PersistentJSONArray.EMPTY.withAdded(concurrentArray)));
+    JSONByteWriter writer = new JSONByteWriter(64, true);
+    writer.write(jsonObject);
+
+    concurrentObject.put("x", 2);
+    concurrentArray.add(2);
+    writer.reset();
+    writer.write(jsonObject);
+    assertEquals(jsonObject.toJSON(), new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    assertEquals("{ \"p\": { \"c\": { \"x\": 1 } }, \"q\": [ [ 1 ] ] }", jsonObject.toJSON());
+  }
+
+  @Test
+  public void testSerializedFormIteratorRemove() throws JSONParseException {
+    JSONObject jsonObject = JSON.parse("", "{ \"a\": [ \"x\", \"y\" ], \"b\": 1 }").toJSONObject();
+    JSONArray array = jsonObject.getNullJSONArray("a");
+    JSONByteWriter writer = new JSONByteWriter(16, true);
+    writer.write(array);
+    assertTrue(array.isSerializedStable());
+
+    Iterator<JSONValue> arrayIterator = array.iterator();
+    arrayIterator.next();
+    arrayIterator.remove();
+    assertFalse(array.isSerializedStable());
+    writer.reset();
+    writer.write(array);
+    assertEquals("[ \"y\" ]", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+
+    writer.reset();
+    writer.write(jsonObject);
+    assertTrue(jsonObject.isSerializedStable());
+    Iterator<JSONPair> objectIterator = jsonObject.iterator();
+    objectIterator.next();
+    objectIterator.next();
+    objectIterator.remove();
+    assertFalse(jsonObject.isSerializedStable());
+    assertFalse(jsonObject.contains("b"));
+    writer.reset();
+    writer.write(jsonObject);
+    assertEquals("{ \"a\": [ \"y\" ] }", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+  }
 }
@@ -0,0 +1,65 @@
+package net.cabezudo.json.values;
+
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.Indentation;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONByteWriter;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class JSONRawTest {
+
+  private static final String FRAGMENT = "{\"cached\":[1,2,{\"ñ\":\"año\"}]}";
+
+  @Test
+  public void testWriteVerbatim() {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("id", 1));
+    jsonObject.add(new JSONPair("data", new JSONRaw(FRAGMENT)));
+    String expected = "{ \"id\": 1, \"data\": " + FRAGMENT + " }";
+    assertEquals(expected, jsonObject.toJSON());
+    assertEquals(expected, JSONWriter.toJSON(jsonObject));
+    assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), JSONByteWriter.toBytes(jsonObject));
+    assertEquals("{\n  \"id\": 1,\n  \"data\": " + FRAGMENT + "\n}", jsonObject.toFormatedString());
+    assertEquals("{\n  \"id\": 1,\n  \"data\": " + FRAGMENT + "\n}", JSONWriter.toFormatedJSON(jsonObject, Indentation.DEFAULT));
+  }
+
+  @Test
+  public void testBytes() {
+    byte[] bytes = FRAGMENT.getBytes(StandardCharsets.UTF_8);
+    JSONRaw jsonRaw = new JSONRaw(bytes);
+    assertArrayEquals(bytes, JSONByteWriter.toBytes(jsonRaw));
+    assertEquals(FRAGMENT, jsonRaw.toJSON());
+    assertArrayEquals(bytes, new JSONRaw(FRAGMENT).toUTF8Bytes());
+    assertEquals(new JSONRaw(FRAGMENT), jsonRaw);
+    assertEquals(new JSONRaw(FRAGMENT).hashCode(), jsonRaw.hashCode());
+    assertNotEquals(new JSONRaw("[]"), jsonRaw);
+  }
+
+  @Test
+  public void testToJSONTree() throws JSONParseException, PropertyNotExistException {
+    JSONRaw jsonRaw = new JSONRaw(FRAGMENT);
+    assertEquals(JSON.parse("", FRAGMENT), jsonRaw.toJSONTree());
+    assertEquals(3, jsonRaw.toJSONObject().getJSONArray("cached").size());
+
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("data", jsonRaw));
+    assertEquals("{ \"data\": { \"cached\": [ 1, 2, { \"ñ\": \"año\" } ] } }", JSONDocument.of(jsonObject).getRoot().toJSON());
+  }
+
+  @Test(expected = JSONConversionException.class)
+  public void testInvalidToJSONTree() {
+    new JSONRaw("{ \"a\": ").toJSONTree();
+  }
+}
@@ -1,5 +1,7 @@
 package net.cabezudo.json.values;
 
+import net.cabezudo.json.JSON;
+import static org.junit.Assert.assertSame;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Calendar;
@@ -316,4 +318,10 @@ public class JSONStringTest {
     assertEquals("Esteban", s);
   }
 
+  @Test
+  public void testGet() {
+    assertSame(JSONString.EMPTY, JSONString.get(""));
+    assertSame(JSONString.EMPTY, JSON.toJSONTree(""));
+    assertEquals("House", JSONString.get("House").toString());
+  }
 }
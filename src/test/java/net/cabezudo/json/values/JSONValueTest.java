@@ -1,6 +1,15 @@
 package net.cabezudo.json.values;
 
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.Position;
+import net.cabezudo.json.exceptions.InvalidOperationException;
 import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.objects.Person;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 /**
@@ -98,4 +107,48 @@ public class JSONValueTest {
     JSONValue jsonValue = new JSONObject();
     jsonValue.toStringArray();
   }
+
+  @Test
+  public void testReferenceFieldNameAndPosition() {
+    Position position = new Position("origin", 2, 3);
+    JSONValue jsonValue = new JSONString("value", position);
+    assertEquals("id", jsonValue.getReferenceFieldName());
+    assertSame(position, jsonValue.getPosition());
+    long size = jsonValue.estimateRetainedBytes();
+
+    jsonValue.setReferenceFieldName("code");
+    assertEquals("code", jsonValue.getReferenceFieldName());
+    assertSame(position, jsonValue.getPosition());
+    assertTrue(jsonValue.estimateRetainedBytes() > size);
+
+    jsonValue.setReferenceFieldName("id");
+    assertEquals("id", jsonValue.getReferenceFieldName());
+    assertSame(position, jsonValue.getPosition());
+    assertEquals(size, jsonValue.estimateRetainedBytes());
+
+    JSONValue withoutPosition = new JSONObject();
+    withoutPosition.setReferenceFieldName("name");
+    assertEquals("name", withoutPosition.getReferenceFieldName());
+    assertNull(withoutPosition.getPosition());
+  }
+
+  @Test
+  public void testSharedReferenceFieldName() {
+    JSONValue[] sharedValues = { JSONNull.get(), JSONString.EMPTY, JSONBoolean.TRUE, JSONNumber.get(7), JSONObject.EMPTY, JSONArray.EMPTY, new JSONObject().freeze() };
+    for (JSONValue sharedValue : sharedValues) {
+      try {
+        sharedValue.setReferenceFieldName("name");
+        fail("The shared value " + sharedValue.toJSON() + " can't be changed.");
+      } catch (InvalidOperationException e) {
+        assertEquals("id", sharedValue.getReferenceFieldName());
+      }
+    }
+    new JSONNumber(7).setReferenceFieldName("name");
+    assertEquals("id", JSONNumber.get(7).getReferenceFieldName());
+
+    JSONObject jsonObject = JSON.toJSONTree(new Person("Esteban", "Cabezudo", 7)).toJSONObject();
+    assertEquals("name", jsonObject.getNullValue("childs").getReferenceFieldName());
+    assertSame(JSONNumber.get(7), jsonObject.getNullValue("age"));
+    assertEquals("id", JSONNumber.get(7).getReferenceFieldName());
+  }
 }
@@ -0,0 +1,82 @@
+package net.cabezudo.json.values;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.exceptions.JSONParseException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class PersistentJSONArrayTest {
+
+  @Test
+  public void testOf() throws JSONParseException {
+    JSONArray jsonArray = parseArray("[ 1, \"a\", { \"b\": [ 2 ] } ]");
+    PersistentJSONArray persistentArray = PersistentJSONArray.of(jsonArray);
+    assertEquals(jsonArray.toJSON(), persistentArray.toJSON());
+    assertTrue(persistentArray.getNullValue(2) instanceof PersistentJSONObject);
+    assertEquals(Integer.valueOf(2), persistentArray.digNullValue("[2].b.[0]").toInteger());
+  }
+
+  @Test
+  public void testWith() {
+    PersistentJSONArray a = PersistentJSONArray.EMPTY.withAdded(1).withAdded(2).withAdded(3);
+    PersistentJSONArray b = a.with(1, "two");
+    PersistentJSONArray c = b.without(0);
+    PersistentJSONArray d = c.withAdded(0, 0);
+    assertEquals("[ 1, 2, 3 ]", a.toJSON());
+    assertEquals("[ 1, \"two\", 3 ]", b.toJSON());
+    assertEquals("[ \"two\", 3 ]", c.toJSON());
+    assertEquals("[ 0, \"two\", 3 ]", d.toJSON());
+  }
+
+  @Test
+  public void testRandomChanges() {
+    Random random = new Random(27);
+    List<Integer> expected = new ArrayList<>();
+    PersistentJSONArray jsonArray = PersistentJSONArray.EMPTY;
+    for (int i = 0; i < 2000; i++) {
+      int operation = random.nextInt(3);
+      if (operation == 0 || expected.isEmpty()) {
+        int index = random.nextInt(expected.size() + 1);
+        expected.add(index, i);
+        jsonArray = jsonArray.withAdded(index, i);
+      } else if (operation == 1) {
+        int index = random.nextInt(expected.size());
+        expected.remove(index);
+        jsonArray = jsonArray.without(index);
+      } else {
+        int index = random.nextInt(expected.size());
+        expected.set(index, -i);
+        jsonArray = jsonArray.with(index, -i);
+      }
+    }
+    assertEquals(expected.size(), jsonArray.size());
+    int i = 0;
+    for (JSONValue jsonValue : jsonArray) {
+      assertEquals(expected.get(i), jsonValue.toInteger());
+      assertEquals(expected.get(i), jsonArray.getNullValue(i).toInteger());
+      i++;
+    }
+  }
+
+  private static JSONArray parseArray(String data) throws JSONParseException {
+    return JSON.parse("PersistentJSONArrayTest", data).toJSONArray();
+  }
+
+  @Test
+  public void testEqualsAndHashCode() throws JSONParseException {
+    PersistentJSONArray a = PersistentJSONArray.of(JSON.parse("", "[ 1, 2, [ 3 ] ]").toJSONArray());
+    PersistentJSONArray b = PersistentJSONArray.EMPTY.withAdded(1).withAdded(2).withAdded(PersistentJSONArray.EMPTY.withAdded(3));
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertTrue(!a.equals(b.with(0, 2)));
+    assertTrue(!a.equals(PersistentJSONArray.EMPTY.withAdded(2).withAdded(1).withAdded(PersistentJSONArray.EMPTY.withAdded(3))));
+  }
+}
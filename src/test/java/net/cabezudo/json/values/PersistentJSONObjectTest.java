@@ -0,0 +1,125 @@
+package net.cabezudo.json.values;
+
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class PersistentJSONObjectTest {
+
+  @Test
+  public void testOf() throws JSONParseException, PropertyNotExistException {
+    JSONObject jsonObject = new JSONObject("testOf", "{ \"b\": 1, \"a\": { \"c\": [ 1, { \"d\": \"d\" } ] } }");
+    PersistentJSONObject persistentObject = PersistentJSONObject.of(jsonObject);
+    assertEquals(jsonObject.toJSON(), persistentObject.toJSON());
+    assertTrue(persistentObject.getValue("a") instanceof PersistentJSONObject);
+    assertEquals("d", persistentObject.digValue("a.c.[1].d").toString());
+  }
+
+  @Test
+  public void testWith() {
+    PersistentJSONObject empty = PersistentJSONObject.EMPTY;
+    PersistentJSONObject a = empty.with("a", 1);
+    PersistentJSONObject b = a.with("b", "b");
+    PersistentJSONObject c = b.with("a", 2);
+    assertTrue(empty.isEmpty());
+    assertEquals("{ \"a\": 1 }", a.toJSON());
+    assertEquals("{ \"a\": 1, \"b\": \"b\" }", b.toJSON());
+    assertEquals("{ \"a\": 2, \"b\": \"b\" }", c.toJSON());
+    assertSame(b.getNullValue("b"), c.getNullValue("b"));
+  }
+
+  @Test
+  public void testWithout() {
+    PersistentJSONObject a = PersistentJSONObject.EMPTY.with("a", 1).with("b", 2).with("c", 3);
+    PersistentJSONObject b = a.without("b");
+    assertEquals(3, a.size());
+    assertEquals(2, b.size());
+    assertFalse(b.contains("b"));
+    assertEquals("{ \"a\": 1, \"c\": 3 }", b.toJSON());
+    assertSame(b, b.without("b"));
+    assertEquals("{ \"a\": 1, \"c\": 3, \"b\": 4 }", b.with("b", 4).toJSON());
+  }
+
+  @Test
+  public void testWithMutableValue() {
+    JSONObject child = new JSONObject();
+    child.add(new JSONPair("x", 1));
+    PersistentJSONObject a = PersistentJSONObject.EMPTY.with("child", child);
+    child.add(new JSONPair("y", 2));
+    assertEquals("{ \"child\": { \"x\": 1 } }", a.toJSON());
+    assertNull(a.digNullValue("child.y"));
+  }
+
+  @Test
+  public void testWithConcurrentValue() {
+    ConcurrentJSONObject concurrentObject = new ConcurrentJSONObject();
+    concurrentObject.put("x", 1);
+    ConcurrentJSONArray concurrentArray = new ConcurrentJSONArray();
+    concurrentArray.add(1);
+    PersistentJSONObject a = PersistentJSONObject.EMPTY.with("object", concurrentObject).with("array", concurrentArray);
+    assertTrue(a.getNullValue("object") instanceof PersistentJSONObject);
+    assertTrue(a.getNullValue("array") instanceof PersistentJSONArray);
+    long hash = a.contentHash();
+    PersistentJSONArray b = PersistentJSONArray.EMPTY.withAdded(concurrentObject);
+
+    concurrentObject.put("y", 3);
+    concurrentArray.add(2);
+    assertEquals("{ \"object\": { \"x\": 1 }, \"array\": [ 1 ] }", a.toJSON());
+    assertEquals(hash, a.contentHash());
+    assertEquals("[ { \"x\": 1 } ]", b.toJSON());
+  }
+
+  @Test
+  public void testManyProperties() {
+    PersistentJSONObject jsonObject = PersistentJSONObject.EMPTY;
+    for (int i = 0; i < 1000; i++) {
+      jsonObject = jsonObject.with("k" + i, i);
+    }
+    for (int i = 0; i < 1000; i += 2) {
+      jsonObject = jsonObject.without("k" + i);
+    }
+    assertEquals(500, jsonObject.size());
+    assertEquals(1, jsonObject.getNullValue(0).toInt());
+    assertEquals(999, jsonObject.getNullValue(499).toInt());
+    assertEquals(501, jsonObject.getNullValue("k501").toInt());
+    assertNull(jsonObject.getNullValue("k500"));
+  }
+
+  @Test
+  public void testToJSONObject() throws JSONParseException {
+    JSONObject jsonObject = new JSONObject("testToJSONObject", "{ \"a\": { \"b\": [ 1, 2 ] } }");
+    JSONObject copy = PersistentJSONObject.of(jsonObject).toJSONObject();
+    copy.getNullObject("a").add(new JSONPair("c", 3));
+    assertEquals("{ \"a\": { \"b\": [ 1, 2 ] } }", jsonObject.toJSON());
+    assertEquals("{ \"a\": { \"b\": [ 1, 2 ], \"c\": 3 } }", copy.toJSON());
+  }
+
+  @Test
+  public void testDigFromMutableObject() {
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.add(new JSONPair("config", PersistentJSONObject.EMPTY.with("port", 80)));
+    assertEquals(Integer.valueOf(80), jsonObject.digNullInteger("config.port"));
+  }
+
+  @Test
+  public void testEqualsAndHashCode() throws JSONParseException {
+    PersistentJSONObject a = PersistentJSONObject.of(new JSONObject("a", "{ \"a\": 1, \"b\": [ 1, { \"c\": 2 } ] }"));
+    PersistentJSONObject b = PersistentJSONObject.EMPTY.with("b", PersistentJSONArray.of(JSON.parse("b", "[ 1, { \"c\": 2 } ]").toJSONArray())).with("a", 1);
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertEquals(a.contentHash(), b.contentHash());
+    assertFalse(a.equals(a.with("a", 2)));
+    assertFalse(a.contentHash() == a.with("a", 2).contentHash());
+  }
+}
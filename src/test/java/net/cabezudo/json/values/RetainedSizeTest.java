@@ -0,0 +1,49 @@
+package net.cabezudo.json.values;
+
+import java.math.BigDecimal;
+import net.cabezudo.json.Position;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/19/2026
+ */
+public class RetainedSizeTest {
+
+  @Test
+  public void testAlign() {
+    assertEquals(0, RetainedSize.align(0));
+    assertEquals(16, RetainedSize.align(12));
+    assertEquals(16, RetainedSize.align(16));
+    assertEquals(24, RetainedSize.align(17));
+  }
+
+  @Test
+  public void testObjectAndArray() {
+    assertEquals(16, RetainedSize.object(0, 0));
+    assertEquals(24, RetainedSize.object(2, 4));
+    assertEquals(16, RetainedSize.array(4, 0));
+    assertEquals(56, RetainedSize.array(8, 5));
+  }
+
+  @Test
+  public void testString() {
+    assertEquals(0, RetainedSize.of((String) null));
+    assertEquals(24 + 24, RetainedSize.of("Esteban"));
+    assertEquals(24 + 24, RetainedSize.of("año€"));
+  }
+
+  @Test
+  public void testBigDecimal() {
+    assertEquals(0, RetainedSize.of((BigDecimal) null));
+    assertEquals(40, RetainedSize.of(new BigDecimal("1.5")));
+    assertEquals(40 + 40 + 32, RetainedSize.of(new BigDecimal("123456789012345678901234567890.5")));
+  }
+
+  @Test
+  public void testPosition() {
+    assertEquals(0, RetainedSize.of((Position) null));
+    assertEquals(24, RetainedSize.of(new Position("origin", 1, 1)));
+  }
+}